@@ -0,0 +1,250 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * BulkEvaluator class - evaluates files of postfix expressions (one per line) in parallel
+ * The input file is memory-mapped one chunk at a time, chunks end on line boundaries,
+ * and every chunk is evaluated as a separate task on a fork-join pool. Results are
+ * written in input order, using the same line format as "Main --batch postfix".
+ *
+ * Only a bounded window of chunks is in flight at any time, so neither the input
+ * nor the output of a large file is ever held on the heap as a whole.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class BulkEvaluator {
+
+    // Default size of the chunks the input is split into
+    private static final long DEFAULT_CHUNK_SIZE = 8L << 20;
+
+    // Number of bytes read at a time when looking for the end of a chunk
+    private static final int BOUNDARY_PROBE_SIZE = 4096;
+
+    // Instance variables
+    private final ForkJoinPool pool;     // Pool the chunks are evaluated on
+    private final long chunkSize;        // Target chunk size in bytes
+    private final int maxInFlight;       // Maximum number of chunks submitted but not written
+
+    /**
+     * Default constructor
+     * Uses the common fork-join pool and 8 MiB chunks
+     */
+    public BulkEvaluator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Parameterized constructor
+     *
+     * @param pool The fork-join pool to evaluate chunks on
+     * @param chunkSize Target chunk size in bytes (chunks are extended to the end of a line)
+     * @throws IllegalArgumentException if chunkSize is not positive
+     */
+    public BulkEvaluator(ForkJoinPool pool, long chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = Math.min(chunkSize, Integer.MAX_VALUE / 2);
+        this.maxInFlight = pool.getParallelism() * 2;
+    }
+
+    /**
+     * Evaluate every line of the input file and write the results to the output file
+     * Algorithm:
+     * 1. Split the input into chunks of about chunkSize bytes that end after a '\n'
+     * 2. Submit a task per chunk; each task maps its chunk and evaluates its lines
+     * 3. Once maxInFlight chunks are pending, write the oldest chunk's result
+     *    before submitting the next one
+     * 4. Write the remaining results in order
+     * If a chunk fails, the chunks not yet started are cancelled and its
+     * IOException is rethrown as it is.
+     *
+     * @param input File of postfix expressions, one per line
+     * @param output File to write one result per line to (created or truncated)
+     * @return Number of lines evaluated
+     * @throws IOException if reading or writing fails
+     */
+    public long evaluateFile(Path input, Path output) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long fileSize = in.size();
+            ArrayDeque<ForkJoinTask<ChunkResult>> pending = new ArrayDeque<>();
+            long lines = 0;
+            long start = 0;
+
+            try {
+                while (start < fileSize) {
+                    long end = findChunkEnd(in, start + chunkSize, fileSize);
+                    long chunkStart = start;
+                    pending.add(pool.submit(() -> evaluateChunk(in, chunkStart, end)));
+                    start = end;
+
+                    if (pending.size() >= maxInFlight) {
+                        lines += writeResult(out, join(pending.poll()));
+                    }
+                }
+                while (!pending.isEmpty()) {
+                    lines += writeResult(out, join(pending.poll()));
+                }
+                return lines;
+            } catch (IOException | RuntimeException e) {
+                for (ForkJoinTask<ChunkResult> task : pending) {
+                    task.cancel(false);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Wait for a chunk task and get its result
+     * The pool reports an IOException thrown by a chunk wrapped in a RuntimeException,
+     * and join() may wrap that again, so the IOException is taken from the cause chain
+     *
+     * @param task The chunk task
+     * @return The chunk result
+     * @throws IOException if the chunk could not be read
+     */
+    private static ChunkResult join(ForkJoinTask<ChunkResult> task) throws IOException {
+        try {
+            return task.join();
+        } catch (RuntimeException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Find the end of the chunk that should end near the given position
+     * The chunk is extended to just after the next '\n' so that no line is split
+     *
+     * @param channel The input channel
+     * @param position Target end position
+     * @param fileSize Size of the input
+     * @return Position just after the next line break, or fileSize if there is none
+     * @throws IOException if reading fails
+     */
+    private static long findChunkEnd(FileChannel channel, long position, long fileSize) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(BOUNDARY_PROBE_SIZE);
+        while (position < fileSize) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return fileSize;
+    }
+
+    /**
+     * Evaluate all lines of one chunk
+     * Runs on a pool thread; the chunk is mapped read-only, the bytes of each line
+     * are collected in a reusable buffer, and the line is decoded into a String
+     * (what Converter.tryEvaluatePostfix takes) before being evaluated
+     *
+     * @param channel The input channel
+     * @param start First byte of the chunk
+     * @param end Position after the last byte of the chunk
+     * @return The encoded results and the number of lines
+     * @throws IOException if mapping fails
+     */
+    private static ChunkResult evaluateChunk(FileChannel channel, long start, long end) throws IOException {
+        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        StringBuilder results = new StringBuilder((int) Math.min(end - start, 1 << 20));
+        byte[] line = new byte[256];
+        int lineLength = 0;
+        long lines = 0;
+
+        while (chunk.hasRemaining()) {
+            byte b = chunk.get();
+            if (b == '\n') {
+                evaluateLine(line, lineLength, results);
+                lineLength = 0;
+                lines++;
+            } else {
+                if (lineLength == line.length) {
+                    byte[] larger = new byte[line.length * 2];
+                    System.arraycopy(line, 0, larger, 0, lineLength);
+                    line = larger;
+                }
+                line[lineLength++] = b;
+            }
+        }
+        if (lineLength > 0) {
+            evaluateLine(line, lineLength, results);
+            lines++;
+        }
+
+        ByteBuffer encoded = StandardCharsets.UTF_8.encode(CharBuffer.wrap(results));
+        return new ChunkResult(encoded, lines);
+    }
+
+    /**
+     * Evaluate one line and append its result line
+     *
+     * @param line Bytes of the line (without the line break)
+     * @param length Number of bytes in use
+     * @param results Builder the result line is appended to
+     */
+    private static void evaluateLine(byte[] line, int length, StringBuilder results) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        String expression = new String(line, 0, length, StandardCharsets.UTF_8);
+        if (!expression.trim().isEmpty()) {
+            results.append(Converter.tryEvaluatePostfix(expression));
+        }
+        results.append('\n');
+    }
+
+    /**
+     * Write a chunk result to the output channel
+     *
+     * @param out The output channel
+     * @param result The chunk result
+     * @return Number of lines in the chunk
+     * @throws IOException if writing fails
+     */
+    private static long writeResult(FileChannel out, ChunkResult result) throws IOException {
+        while (result.bytes.hasRemaining()) {
+            out.write(result.bytes);
+        }
+        return result.lines;
+    }
+
+    /**
+     * Encoded output of one chunk
+     */
+    private static final class ChunkResult {
+        private final ByteBuffer bytes;   // Result lines, UTF-8 encoded
+        private final long lines;         // Number of lines evaluated
+
+        ChunkResult(ByteBuffer bytes, long lines) {
+            this.bytes = bytes;
+            this.lines = lines;
+        }
+    }
+}
\ No newline at end of file
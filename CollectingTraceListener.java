@@ -0,0 +1,165 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CollectingTraceListener class - keeps the table rows in memory instead of printing them
+ * Each row is stored as an array of column strings in the same order as the PDF tables,
+ * which makes the steps easy to check in tests or to render later.
+ *
+ * The postfix and stack columns are not copied at every step. The postfix expressions
+ * are appended once, one after another, to a single builder and each conversion row
+ * keeps the range of it that was written so far. The listener mirrors the operator
+ * and operand stacks as PersistentStacks (updated in O(1) from the push and pop
+ * callbacks) and each row keeps the stack version it was taken from. The column text
+ * is rendered the first time the rows are requested, so recording a row costs O(1)
+ * (amortized) instead of O(length of the postfix) or O(depth).
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class CollectingTraceListener implements ConversionTraceListener, EvaluationTraceListener {
+
+    // Instance variables
+    private final List<String[]> conversionRows = new ArrayList<>();   // Symbol, Postfix, Operator Stack
+    private final List<String[]> evaluationRows = new ArrayList<>();   // Symbol, Operand1, Operand2, Value, Stack
+    private final List<PersistentStack<Character>> operatorStacks = new ArrayList<>();  // Per conversion row
+    private final List<PersistentStack<Double>> operandStacks = new ArrayList<>();      // Per evaluation row
+    private PersistentStack<Character> operatorStack = PersistentStack.empty();  // Current operator stack
+    private PersistentStack<Double> operandStack = PersistentStack.empty();      // Current operand stack
+    private final StringBuilder postfixText = new StringBuilder();   // Postfix of every conversion, in order
+    private int postfixStart;              // Where the current conversion's postfix starts in postfixText
+    private int[] postfixStarts = new int[16]; // Start of the postfix in postfixText, per conversion row
+    private int[] postfixEnds = new int[16];   // End of the postfix in postfixText, per conversion row
+    private int renderedConversionRows;    // Rows whose stack column has been rendered
+    private int renderedEvaluationRows;    // Rows whose stack column has been rendered
+
+    @Override
+    public void onConversionStart(String infixExpression) {
+        operatorStack = PersistentStack.empty();
+        postfixStart = postfixText.length();
+    }
+
+    @Override
+    public void onOperatorPush(char operator) {
+        operatorStack = operatorStack.push(operator);
+    }
+
+    @Override
+    public void onOperatorPop(char operator) {
+        operatorStack = operatorStack.pop();
+    }
+
+    @Override
+    public void onSymbol(CharSequence symbol, CharSequence postfix, CharStack operatorStack) {
+        // Only the characters appended since the last row are copied
+        postfixText.append(postfix, postfixText.length() - postfixStart, postfix.length());
+        int row = conversionRows.size();
+        if (row == postfixEnds.length) {
+            postfixStarts = Arrays.copyOf(postfixStarts, row * 2);
+            postfixEnds = Arrays.copyOf(postfixEnds, row * 2);
+        }
+        postfixStarts[row] = postfixStart;
+        postfixEnds[row] = postfixText.length();
+        conversionRows.add(new String[] {symbol.toString(), null, null});
+        operatorStacks.add(this.operatorStack);
+    }
+
+    @Override
+    public void onEvaluationStart(String postfixExpression) {
+        operandStack = PersistentStack.empty();
+    }
+
+    @Override
+    public void onOperandPush(double value) {
+        operandStack = operandStack.push(value);
+    }
+
+    @Override
+    public void onOperandPop(double value) {
+        operandStack = operandStack.pop();
+    }
+
+    @Override
+    public void onOperand(CharSequence symbol, double value, DoubleStack operandStack) {
+        evaluationRows.add(new String[] {symbol.toString(), "", "", "", null});
+        operandStacks.add(this.operandStack);
+    }
+
+    @Override
+    public void onOperator(char operator, double operand1, double operand2, double value,
+                           DoubleStack operandStack) {
+        String operand2Text = OperatorRegistry.getArity(operator) == 1 ? "" : Converter.formatValue(operand2);
+        evaluationRows.add(new String[] {OperatorRegistry.getName(operator), Converter.formatValue(operand1),
+                operand2Text, Converter.formatValue(value), null});
+        operandStacks.add(this.operandStack);
+    }
+
+    /**
+     * Get the rows of the conversion table
+     * Renders the Postfix Expression and Operator Stack columns of the rows added
+     * since the last call
+     *
+     * @return Rows of Symbol, Postfix Expression, Operator Stack
+     */
+    public List<String[]> getConversionRows() {
+        for (; renderedConversionRows < conversionRows.size(); renderedConversionRows++) {
+            int i = renderedConversionRows;
+            String[] row = conversionRows.get(i);
+            row[1] = postfixText.substring(postfixStarts[i], postfixEnds[i]);
+            row[2] = operatorStacks.get(i).render("", OperatorRegistry::getName);
+        }
+        return conversionRows;
+    }
+
+    /**
+     * Get the rows of the evaluation table
+     * Renders the Stack column of the rows added since the last call
+     *
+     * @return Rows of Symbol, Operand1, Operand2, Value, Stack
+     */
+    public List<String[]> getEvaluationRows() {
+        for (; renderedEvaluationRows < evaluationRows.size(); renderedEvaluationRows++) {
+            evaluationRows.get(renderedEvaluationRows)[4] =
+                    operandStacks.get(renderedEvaluationRows).render(" ", Converter::formatValue);
+        }
+        return evaluationRows;
+    }
+
+    /**
+     * Get the operator stack as it was after a conversion row, without rendering it
+     *
+     * @param row Index of the conversion row
+     * @return The stack version (top is the most recently pushed operator)
+     */
+    public PersistentStack<Character> getOperatorStack(int row) {
+        return operatorStacks.get(row);
+    }
+
+    /**
+     * Get the operand stack as it was after an evaluation row, without rendering it
+     *
+     * @param row Index of the evaluation row
+     * @return The stack version (top is the most recently pushed value)
+     */
+    public PersistentStack<Double> getOperandStack(int row) {
+        return operandStacks.get(row);
+    }
+
+    /**
+     * Remove all collected rows so the listener can be reused
+     */
+    public void clear() {
+        conversionRows.clear();
+        evaluationRows.clear();
+        operatorStacks.clear();
+        operandStacks.clear();
+        operatorStack = PersistentStack.empty();
+        operandStack = PersistentStack.empty();
+        postfixText.setLength(0);
+        postfixStart = 0;
+        renderedConversionRows = 0;
+        renderedEvaluationRows = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,247 @@
+import java.util.Arrays;
+
+/**
+ * ColumnEvaluator class - evaluates one compiled expression over many rows of data
+ * Each variable is given as a column (one double[] per variable slot) and the results
+ * are written to an output column.
+ *
+ * Instead of running the whole program once per row, the rows are processed in blocks:
+ * every instruction is applied to a whole block before moving to the next instruction
+ * (see ColumnKernel). This removes the per-row interpreter dispatch and gives the JIT
+ * plain array loops. When the JVM is started with --add-modules jdk.incubator.vector
+ * those loops use explicit SIMD vectors (VectorColumnKernel); otherwise, or when the
+ * converter.vector.disable system property is true, a scalar kernel is used. Expressions
+ * that call registered operators or functions always use the scalar kernel.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public final class ColumnEvaluator {
+
+    // Rows per block; the work space is workspace size x BLOCK_SIZE doubles
+    static final int BLOCK_SIZE = 512;
+
+    // Kernel for programs with OP_CALL instructions, which the vector kernel cannot run
+    private static final ColumnKernel SCALAR_KERNEL = new ScalarKernel();
+
+    // Kernel used by evaluateColumns, chosen once at class initialization
+    private static final ColumnKernel KERNEL = loadKernel();
+
+    /**
+     * Private constructor - static members only
+     */
+    private ColumnEvaluator() {
+    }
+
+    /**
+     * Evaluate an expression for every row of a set of columns
+     * Algorithm:
+     * 1. Check that there is a column for every variable and that every column has
+     *    at least out.length rows
+     * 2. Allocate one work space of BLOCK_SIZE rows per stack entry and temporary slot
+     * 3. Run the program over each block of BLOCK_SIZE rows with the kernel (the
+     *    scalar kernel if the program calls registered operators or functions)
+     * Calls are recorded in ConverterMetrics.COLUMN_EVALUATION, with the number of
+     * rows as the token count, when metrics are enabled
+     *
+     * Time Complexity: O(rows x instructions)
+     * Space Complexity: O(workspace size x BLOCK_SIZE)
+     *
+     * @param expression The compiled expression
+     * @param columns Variable values: columns[slot][row] (see CompiledExpression.slotOf)
+     * @param out Receives the value of the expression for each row; its length is
+     *            the number of rows evaluated
+     * @throws RuntimeException if a column is missing or too short, or on division by zero
+     */
+    public static void evaluateColumns(CompiledExpression expression, double[][] columns, double[] out) {
+        if (!ConverterMetrics.ENABLED) {
+            evaluateRows(expression, columns, out);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            evaluateRows(expression, columns, out);
+            failed = false;
+        } finally {
+            ConverterMetrics.COLUMN_EVALUATION.record(start, out.length, failed);
+        }
+    }
+
+    /**
+     * Evaluate an expression for every row of a set of columns (see evaluateColumns)
+     *
+     * @param expression The compiled expression
+     * @param columns Variable values: columns[slot][row]
+     * @param out Receives the value of the expression for each row
+     * @throws RuntimeException if a column is missing or too short, or on division by zero
+     */
+    private static void evaluateRows(CompiledExpression expression, double[][] columns, double[] out) {
+        int rows = out.length;
+        int variableCount = expression.getVariableCount();
+        if (columns.length < variableCount) {
+            throw new RuntimeException("Expected " + variableCount + " columns but got " + columns.length);
+        }
+        for (int slot = 0; slot < variableCount; slot++) {
+            if (columns[slot].length < rows) {
+                throw new RuntimeException("Column " + expression.getVariable(slot) + " has "
+                        + columns[slot].length + " rows but " + rows + " are needed");
+            }
+        }
+
+        int[] code = expression.getCode();
+        double[] constants = expression.getConstants();
+        int tempBase = expression.getMaxStackDepth();
+        double[][] slots = new double[expression.getWorkspaceSize()][Math.min(BLOCK_SIZE, rows)];
+        ColumnKernel kernel = expression.hasCalls() ? SCALAR_KERNEL : KERNEL;
+        for (int row = 0; row < rows; row += BLOCK_SIZE) {
+            kernel.evaluateBlock(code, constants, tempBase, columns, row, Math.min(BLOCK_SIZE, rows - row),
+                    slots, out);
+        }
+    }
+
+    /**
+     * Get the name of the kernel in use, e.g. "vector (S_256_BIT, 4 lanes)" or "scalar"
+     *
+     * @return Kernel name
+     */
+    public static String getKernelName() {
+        return KERNEL.getName();
+    }
+
+    /**
+     * Choose the kernel
+     * VectorColumnKernel is loaded reflectively: it only links when the
+     * jdk.incubator.vector module is present, and this class must not depend on it
+     *
+     * @return The vector kernel if it can be used, otherwise the scalar kernel
+     */
+    private static ColumnKernel loadKernel() {
+        if (!Boolean.getBoolean("converter.vector.disable")) {
+            try {
+                return (ColumnKernel) Class.forName("VectorColumnKernel").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+                // Vector API module not available (or kernel not compiled in)
+            }
+        }
+        return SCALAR_KERNEL;
+    }
+
+    /**
+     * Kernel using plain loops over the block, one instruction at a time
+     */
+    static final class ScalarKernel implements ColumnKernel {
+
+        @Override
+        public void evaluateBlock(int[] code, double[] constants, int tempBase, double[][] columns,
+                                  int row, int length, double[][] slots, double[] out) {
+            int sp = 0;
+            for (int instruction : code) {
+                int operand = instruction >>> CompiledExpression.OPERAND_SHIFT;
+                switch (instruction & CompiledExpression.OPCODE_MASK) {
+                    case CompiledExpression.OP_CONST:
+                        Arrays.fill(slots[sp++], 0, length, constants[operand]);
+                        break;
+                    case CompiledExpression.OP_LOAD:
+                        System.arraycopy(columns[operand], row, slots[sp++], 0, length);
+                        break;
+                    case CompiledExpression.OP_ADD: {
+                        sp--;
+                        double[] left = slots[sp - 1];
+                        double[] right = slots[sp];
+                        for (int i = 0; i < length; i++) {
+                            left[i] += right[i];
+                        }
+                        break;
+                    }
+                    case CompiledExpression.OP_SUB: {
+                        sp--;
+                        double[] left = slots[sp - 1];
+                        double[] right = slots[sp];
+                        for (int i = 0; i < length; i++) {
+                            left[i] -= right[i];
+                        }
+                        break;
+                    }
+                    case CompiledExpression.OP_MUL: {
+                        sp--;
+                        double[] left = slots[sp - 1];
+                        double[] right = slots[sp];
+                        for (int i = 0; i < length; i++) {
+                            left[i] *= right[i];
+                        }
+                        break;
+                    }
+                    case CompiledExpression.OP_DIV: {
+                        sp--;
+                        double[] left = slots[sp - 1];
+                        double[] right = slots[sp];
+                        checkNoZero(right, length);
+                        for (int i = 0; i < length; i++) {
+                            left[i] /= right[i];
+                        }
+                        break;
+                    }
+                    case CompiledExpression.OP_POW: {
+                        sp--;
+                        double[] left = slots[sp - 1];
+                        double[] right = slots[sp];
+                        for (int i = 0; i < length; i++) {
+                            left[i] = Math.pow(left[i], right[i]);
+                        }
+                        break;
+                    }
+                    case CompiledExpression.OP_STORE_TEMP:
+                        System.arraycopy(slots[sp - 1], 0, slots[tempBase + operand], 0, length);
+                        break;
+                    case CompiledExpression.OP_LOAD_TEMP:
+                        System.arraycopy(slots[tempBase + operand], 0, slots[sp++], 0, length);
+                        break;
+                    case CompiledExpression.OP_CALL: {
+                        char function = (char) operand;
+                        if (OperatorRegistry.getArity(function) == 1) {
+                            double[] argument = slots[sp - 1];
+                            for (int i = 0; i < length; i++) {
+                                argument[i] = OperatorRegistry.apply(function, argument[i]);
+                            }
+                        } else {
+                            sp--;
+                            double[] left = slots[sp - 1];
+                            double[] right = slots[sp];
+                            for (int i = 0; i < length; i++) {
+                                left[i] = OperatorRegistry.apply(function, left[i], right[i]);
+                            }
+                        }
+                        break;
+                    }
+                    default:
+                        throw new RuntimeException("Invalid instruction: " + instruction);
+                }
+            }
+            System.arraycopy(slots[0], 0, out, row, length);
+        }
+
+        @Override
+        public String getName() {
+            return "scalar";
+        }
+    }
+
+    /**
+     * Check a block of divisors
+     * Kept apart from the division loop so that loop stays branch-free
+     *
+     * @param divisors The divisors
+     * @param length Number of values in use
+     * @throws RuntimeException if any divisor is zero
+     */
+    private static void checkNoZero(double[] divisors, int length) {
+        for (int i = 0; i < length; i++) {
+            if (divisors[i] == 0) {
+                throw new RuntimeException("Division by zero");
+            }
+        }
+    }
+}
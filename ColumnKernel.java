@@ -0,0 +1,38 @@
+/**
+ * ColumnKernel interface - runs a compiled program over a block of rows at once
+ * Implemented by the scalar kernel in ColumnEvaluator and by VectorColumnKernel,
+ * which uses the jdk.incubator.vector module when it is available.
+ *
+ * Every operand stack entry and temporary slot is a row of the slots array holding
+ * one value per row of the block, so each instruction is dispatched once per block
+ * instead of once per row.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+interface ColumnKernel {
+
+    /**
+     * Evaluate rows [row, row + length) of the columns
+     *
+     * @param code The instructions (see CompiledExpression)
+     * @param constants The constant pool
+     * @param tempBase Index of the first temporary slot in slots (the stack depth)
+     * @param columns Variable values, one column per variable slot
+     * @param row First row of the block
+     * @param length Number of rows in the block (at most the length of a slot)
+     * @param slots Work space: getWorkspaceSize() arrays of at least length values
+     * @param out Receives the results at out[row..row + length)
+     * @throws RuntimeException on division by zero
+     */
+    void evaluateBlock(int[] code, double[] constants, int tempBase, double[][] columns,
+                       int row, int length, double[][] slots, double[] out);
+
+    /**
+     * Get a short description of the kernel for diagnostics
+     *
+     * @return Kernel name
+     */
+    String getName();
+}
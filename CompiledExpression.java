@@ -0,0 +1,572 @@
+/**
+ * CompiledExpression class - an expression parsed once into a compact program
+ * The infix expression is converted to postfix a single time and the postfix tokens
+ * are turned into an instruction array, a constant pool and a list of variable slots.
+ * Evaluating the expression is then a tight loop over int and double arrays that can
+ * be repeated with different variable bindings without re-parsing anything.
+ *
+ * Instruction format: each int holds an opcode in the low 8 bits and an operand
+ * (constant index, variable slot, temporary slot or OperatorRegistry code) in the
+ * remaining bits. The built-in operators have their own opcodes; registered
+ * operators and functions are run through OP_CALL.
+ * Temporary slots hold shared subexpression values (see ExpressionOptimizer) and
+ * live in the work array right after the operand stack.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class CompiledExpression {
+
+    // Opcodes
+    static final int OP_CONST = 0;      // push constants[operand]
+    static final int OP_LOAD = 1;       // push bindings[operand]
+    static final int OP_ADD = 2;
+    static final int OP_SUB = 3;
+    static final int OP_MUL = 4;
+    static final int OP_DIV = 5;
+    static final int OP_POW = 6;
+    static final int OP_STORE_TEMP = 7; // temps[operand] = top of stack (not popped)
+    static final int OP_LOAD_TEMP = 8;  // push temps[operand]
+    static final int OP_CALL = 9;       // apply the registered operator or function with code operand
+
+    static final int OPCODE_MASK = 0xFF;
+    static final int OPERAND_SHIFT = 8;
+
+    // Instance variables
+    private final String postfix;        // Postfix form the program was compiled from
+    private final int[] code;            // Instructions in postfix order
+    private final double[] constants;    // Constant pool
+    private final String[] variables;    // Variable names, indexed by slot
+    private final int maxStackDepth;     // Operand stack size needed by evaluate
+    private final int tempCount;         // Number of temporary slots
+    private final boolean pure;          // Every instruction is known to be pure (see isPure)
+    private final boolean calls;         // The program contains OP_CALL instructions
+
+    // Bytecode compilation state (see ExpressionJit)
+    private volatile ExpressionFunction compiledFunction;  // Generated code, once compiled
+    private int evaluationCount;                            // Interpreted evaluations (approximate)
+    private boolean compileAttempted;                       // Compilation was tried (and may have failed)
+
+    /**
+     * Parameterized constructor
+     * Used by the compile methods once the program has been built and checked
+     *
+     * @param postfix The postfix expression the program was compiled from
+     * @param code The instructions
+     * @param constants The constant pool
+     * @param variables The variable names indexed by slot
+     * @param maxStackDepth Operand stack size needed to run the program
+     * @param tempCount Number of temporary slots used by the program
+     */
+    CompiledExpression(String postfix, int[] code, double[] constants, String[] variables,
+                       int maxStackDepth, int tempCount) {
+        this.postfix = postfix;
+        this.code = code;
+        this.constants = constants;
+        this.variables = variables;
+        this.maxStackDepth = maxStackDepth;
+        this.tempCount = tempCount;
+        this.pure = onlyPureInstructions(code);
+        this.calls = containsCalls(code);
+    }
+
+    /**
+     * Compile an infix expression
+     * Same as Converter.compile, so repeated expressions come from its cache
+     *
+     * @param infixExpression The infix expression to compile
+     * @return The compiled expression
+     * @throws RuntimeException if the expression is invalid
+     */
+    public static CompiledExpression compile(String infixExpression) {
+        return Converter.compile(infixExpression);
+    }
+
+    /**
+     * Compile a postfix expression
+     * Algorithm:
+     * 1. Read the expression token by token with an ExpressionTokenizer
+     * 2. Numbers become OP_CONST instructions with an entry in the constant pool
+     * 3. Identifiers become OP_LOAD instructions; each distinct name gets a slot
+     *    in order of first appearance
+     * 4. Operators become their arithmetic opcode; other registered operators and
+     *    functions become OP_CALL instructions
+     * 5. Track the operand stack depth to reject malformed input and size the stack
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @param postfixExpression The postfix expression to compile
+     * @return The compiled expression
+     * @throws RuntimeException if the expression is invalid
+     */
+    public static CompiledExpression compilePostfix(String postfixExpression) {
+        ExpressionTokenizer tokenizer = new ExpressionTokenizer(postfixExpression);
+        int capacity = postfixExpression.length() / 2 + 1;
+        int[] code = new int[capacity];
+        double[] constants = new double[capacity];
+        String[] variables = new String[capacity];
+        StringBuilder postfix = new StringBuilder(postfixExpression.length());
+        int codeLength = 0;
+        int constantCount = 0;
+        int variableCount = 0;
+        int depth = 0;
+        int maxDepth = 0;
+
+        int kind;
+        while ((kind = tokenizer.next()) != ExpressionTokenizer.END) {
+            int instruction;
+            if (kind == ExpressionTokenizer.OPERATOR || kind == ExpressionTokenizer.FUNCTION) {
+                int arity = OperatorRegistry.getArity(tokenizer.getSymbol());
+                if (depth < arity) {
+                    throw new RuntimeException("Not enough operands for operator: " + tokenizer.getTokenText());
+                }
+                instruction = opcodeFor(tokenizer.getSymbol());
+                depth -= arity - 1;
+            } else if (kind == ExpressionTokenizer.IDENTIFIER) {
+                int slot = -1;
+                for (int i = 0; i < variableCount && slot < 0; i++) {
+                    if (tokenizer.tokenEquals(variables[i])) {
+                        slot = i;
+                    }
+                }
+                if (slot < 0) {
+                    slot = variableCount;
+                    variables[variableCount++] = tokenizer.getTokenText().toString();
+                }
+                instruction = (slot << OPERAND_SHIFT) | OP_LOAD;
+                depth++;
+            } else if (kind == ExpressionTokenizer.NUMBER) {
+                constants[constantCount] = tokenizer.getNumberValue();
+                instruction = (constantCount++ << OPERAND_SHIFT) | OP_CONST;
+                depth++;
+            } else {
+                throw new RuntimeException("Invalid token: " + tokenizer.getTokenText());
+            }
+
+            code[codeLength++] = instruction;
+            maxDepth = Math.max(maxDepth, depth);
+            if (postfix.length() > 0) {
+                postfix.append(' ');
+            }
+            postfix.append(postfixExpression, tokenizer.getTokenStart(), tokenizer.getTokenEnd());
+        }
+
+        if (codeLength == 0) {
+            throw new RuntimeException("Empty expression");
+        }
+        if (depth != 1) {
+            throw new RuntimeException("Invalid postfix expression: " + depth + " values left on the stack");
+        }
+
+        int[] program = new int[codeLength];
+        System.arraycopy(code, 0, program, 0, codeLength);
+        String[] variableNames = new String[variableCount];
+        System.arraycopy(variables, 0, variableNames, 0, variableCount);
+        double[] constantPool = new double[constantCount];
+        System.arraycopy(constants, 0, constantPool, 0, constantCount);
+        return new CompiledExpression(postfix.toString(), program, constantPool, variableNames, maxDepth, 0);
+    }
+
+    /**
+     * Evaluate the expression with the given variable values
+     * A new work array is allocated for every call; use
+     * evaluate(double[], double[]) to reuse one
+     *
+     * @param bindings Variable values indexed by slot (see getVariable)
+     * @return The value of the expression
+     * @throws RuntimeException if a binding is missing or on division by zero
+     */
+    public double evaluate(double[] bindings) {
+        if (!ConverterMetrics.ENABLED) {
+            return execute(bindings, null);
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            double value = execute(bindings, null);
+            failed = false;
+            return value;
+        } finally {
+            ConverterMetrics.COMPILED_EVALUATION.record(start, code.length, failed);
+        }
+    }
+
+    /**
+     * Evaluate the expression with the given variable values and work array
+     * Once the expression has been evaluated ExpressionJit.getThreshold() times it is
+     * compiled to bytecode and later calls run the generated code; until then (or if
+     * compilation fails) the program is interpreted. Calls are recorded in
+     * ConverterMetrics.COMPILED_EVALUATION when metrics are enabled
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1), the work array is supplied by the caller
+     *
+     * @param bindings Variable values indexed by slot (see getVariable)
+     * @param stack Work array (operand stack followed by the temporary slots)
+     *              with at least getWorkspaceSize() elements
+     * @return The value of the expression
+     * @throws RuntimeException if a binding is missing or on division by zero
+     */
+    public double evaluate(double[] bindings, double[] stack) {
+        if (!ConverterMetrics.ENABLED) {
+            return execute(bindings, stack);
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            double value = execute(bindings, stack);
+            failed = false;
+            return value;
+        } finally {
+            ConverterMetrics.COMPILED_EVALUATION.record(start, code.length, failed);
+        }
+    }
+
+    /**
+     * Run the generated code if there is some, otherwise interpret the program,
+     * compiling it to bytecode once it has been run often enough
+     *
+     * @param bindings Variable values indexed by slot
+     * @param stack Work array, or null to allocate one if the program is interpreted
+     * @return The value of the expression
+     * @throws RuntimeException if a binding is missing or on division by zero
+     */
+    private double execute(double[] bindings, double[] stack) {
+        checkBindings(bindings);
+        ExpressionFunction function = compiledFunction;
+        if (function != null) {
+            return function.applyAsDouble(bindings);
+        }
+        if (!compileAttempted) {
+            int threshold = ExpressionJit.getThreshold();
+            if (threshold >= 0 && ++evaluationCount >= threshold) {
+                compileToBytecode();
+            }
+        }
+        return interpret(bindings, stack != null ? stack : new double[maxStackDepth + tempCount]);
+    }
+
+    /**
+     * Interpret the program
+     * Algorithm:
+     * 1. Run every instruction in order against the operand stack
+     * 2. Binary opcodes pop Operand2 then Operand1 and push the result; OP_CALL
+     *    pops as many operands as its operator or function takes
+     * 3. Return the single value left on the stack
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1), the work array is supplied by the caller
+     *
+     * @param bindings Variable values indexed by slot
+     * @param stack Work array with at least getWorkspaceSize() elements
+     * @return The value of the expression
+     * @throws RuntimeException on division by zero
+     */
+    double interpret(double[] bindings, double[] stack) {
+        final int[] code = this.code;
+        final double[] constants = this.constants;
+        final int tempBase = maxStackDepth;
+        int sp = 0;
+
+        for (int i = 0; i < code.length; i++) {
+            int instruction = code[i];
+            switch (instruction & OPCODE_MASK) {
+                case OP_CONST:
+                    stack[sp++] = constants[instruction >>> OPERAND_SHIFT];
+                    break;
+                case OP_LOAD:
+                    stack[sp++] = bindings[instruction >>> OPERAND_SHIFT];
+                    break;
+                case OP_ADD:
+                    sp--;
+                    stack[sp - 1] = stack[sp - 1] + stack[sp];
+                    break;
+                case OP_SUB:
+                    sp--;
+                    stack[sp - 1] = stack[sp - 1] - stack[sp];
+                    break;
+                case OP_MUL:
+                    sp--;
+                    stack[sp - 1] = stack[sp - 1] * stack[sp];
+                    break;
+                case OP_DIV:
+                    sp--;
+                    if (stack[sp] == 0) {
+                        throw new RuntimeException("Division by zero");
+                    }
+                    stack[sp - 1] = stack[sp - 1] / stack[sp];
+                    break;
+                case OP_POW:
+                    sp--;
+                    stack[sp - 1] = Math.pow(stack[sp - 1], stack[sp]);
+                    break;
+                case OP_STORE_TEMP:
+                    stack[tempBase + (instruction >>> OPERAND_SHIFT)] = stack[sp - 1];
+                    break;
+                case OP_LOAD_TEMP:
+                    stack[sp++] = stack[tempBase + (instruction >>> OPERAND_SHIFT)];
+                    break;
+                case OP_CALL: {
+                    char function = (char) (instruction >>> OPERAND_SHIFT);
+                    if (OperatorRegistry.getArity(function) == 1) {
+                        stack[sp - 1] = OperatorRegistry.apply(function, stack[sp - 1]);
+                    } else {
+                        sp--;
+                        stack[sp - 1] = OperatorRegistry.apply(function, stack[sp - 1], stack[sp]);
+                    }
+                    break;
+                }
+                default:
+                    throw new RuntimeException("Invalid instruction: " + instruction);
+            }
+        }
+
+        return stack[0];
+    }
+
+    /**
+     * Compile the program to bytecode with ExpressionJit
+     * Runs at most once; if the expression cannot be compiled it stays interpreted
+     */
+    private synchronized void compileToBytecode() {
+        if (compileAttempted) {
+            return;
+        }
+        compileAttempted = true;
+        try {
+            compiledFunction = ExpressionJit.compile(this);
+        } catch (RuntimeException | LinkageError e) {
+            // Keep interpreting
+        }
+    }
+
+    /**
+     * Check that enough bindings were supplied
+     *
+     * @param bindings Variable values
+     * @throws RuntimeException if there are fewer values than variables
+     */
+    private void checkBindings(double[] bindings) {
+        if (bindings.length < variables.length) {
+            throw new RuntimeException("Expected " + variables.length + " bindings but got " + bindings.length);
+        }
+    }
+
+    /**
+     * Check whether the expression is running as generated bytecode
+     *
+     * @return true once ExpressionJit has compiled the expression
+     */
+    public boolean isCompiledToBytecode() {
+        return compiledFunction != null;
+    }
+
+    /**
+     * Check whether the expression is pure: its value depends only on the bindings,
+     * and evaluating it has no side effects, so a result can be reused for the same
+     * bindings (see ResultMemo)
+     *
+     * @return true if every instruction is known to be pure
+     */
+    public boolean isPure() {
+        return pure;
+    }
+
+    /**
+     * Check whether the program calls registered operators or functions
+     * ExpressionOptimizer, ExpressionJit and the vector column kernel only handle the
+     * built-in opcodes and leave such programs to the interpreter or scalar code
+     *
+     * @return true if the program contains an OP_CALL instruction
+     */
+    boolean hasCalls() {
+        return calls;
+    }
+
+    /**
+     * Check a program for OP_CALL instructions
+     *
+     * @param code The instructions
+     * @return true if an instruction is OP_CALL
+     */
+    private static boolean containsCalls(int[] code) {
+        for (int instruction : code) {
+            if ((instruction & OPCODE_MASK) == OP_CALL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check a program against the instructions known to be pure
+     * An opcode that is not listed here counts as impure, so a new instruction
+     * is never memoized by accident before it has been reviewed. OP_CALL runs
+     * registered code that may not be pure, so it is not listed
+     *
+     * @param code The instructions
+     * @return true if every instruction is pure
+     */
+    private static boolean onlyPureInstructions(int[] code) {
+        for (int instruction : code) {
+            switch (instruction & OPCODE_MASK) {
+                case OP_CONST:
+                case OP_LOAD:
+                case OP_ADD:
+                case OP_SUB:
+                case OP_MUL:
+                case OP_DIV:
+                case OP_POW:
+                case OP_STORE_TEMP:
+                case OP_LOAD_TEMP:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Map an operator character or function code to its instruction
+     *
+     * @param operator The operator character or function code
+     * @return The opcode of a built-in operator, otherwise an OP_CALL instruction
+     * @throws RuntimeException if the operator is not registered
+     */
+    static int opcodeFor(char operator) {
+        return OperatorRegistry.instructionFor(operator);
+    }
+
+    /**
+     * Find a name among the first count entries of an array
+     *
+     * @param names Array to search
+     * @param count Number of entries in use
+     * @param name Name to find
+     * @return Index of the name, or -1 if not found
+     */
+    private static int indexOf(String[] names, int count, String name) {
+        for (int i = 0; i < count; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the slot of a variable
+     *
+     * @param name Variable name
+     * @return Slot index to use in the bindings array, or -1 if the variable is not used
+     */
+    public int slotOf(String name) {
+        return indexOf(variables, variables.length, name);
+    }
+
+    /**
+     * Get the name of the variable in the given slot
+     *
+     * @param slot Slot index
+     * @return Variable name
+     */
+    public String getVariable(int slot) {
+        return variables[slot];
+    }
+
+    /**
+     * Get the number of distinct variables, which is the required bindings length
+     *
+     * @return Number of variables
+     */
+    public int getVariableCount() {
+        return variables.length;
+    }
+
+    /**
+     * Get the operand stack size needed by the program (without temporary slots)
+     *
+     * @return Maximum operand stack depth
+     */
+    public int getMaxStackDepth() {
+        return maxStackDepth;
+    }
+
+    /**
+     * Get the number of temporary slots used for shared subexpressions
+     *
+     * @return Number of temporary slots
+     */
+    public int getTempCount() {
+        return tempCount;
+    }
+
+    /**
+     * Get the size of the work array needed by evaluate(double[], double[])
+     *
+     * @return Operand stack depth plus number of temporary slots
+     */
+    public int getWorkspaceSize() {
+        return maxStackDepth + tempCount;
+    }
+
+    /**
+     * Get the number of instructions executed per evaluation
+     *
+     * @return Instruction count
+     */
+    public int getInstructionCount() {
+        return code.length;
+    }
+
+    /**
+     * Get the postfix expression this program was compiled from
+     *
+     * @return The postfix expression (with spaces between tokens)
+     */
+    public String getPostfix() {
+        return postfix;
+    }
+
+    /**
+     * Get the instructions (shared, must not be modified)
+     *
+     * @return The instruction array
+     */
+    int[] getCode() {
+        return code;
+    }
+
+    /**
+     * Get the constant pool (shared, must not be modified)
+     *
+     * @return The constant pool
+     */
+    double[] getConstants() {
+        return constants;
+    }
+
+    /**
+     * Get the variable names indexed by slot (shared, must not be modified)
+     *
+     * @return The variable names
+     */
+    String[] getVariables() {
+        return variables;
+    }
+
+    /**
+     * toString method to display the expression
+     *
+     * @return The postfix expression
+     */
+    @Override
+    public String toString() {
+        return postfix;
+    }
+}
\ No newline at end of file
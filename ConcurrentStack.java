@@ -0,0 +1,265 @@
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ConcurrentStack class - a lock-free stack that can be shared between threads
+ * Same API as Stack. The top of the stack is an AtomicReference to the same Node
+ * cons cells that Stack uses, updated with compare-and-set (a Treiber stack).
+ *
+ * When a compare-and-set fails because of contention, the thread tries the elimination
+ * array before retrying: a push parks its node in a random slot for a short time and a
+ * pop that finds a parked node takes it. A matching push and pop then complete without
+ * touching the top of the stack at all, which keeps throughput up when many threads
+ * push and pop at once.
+ *
+ * size() is kept in a LongAdder, so it is cheap but only approximate while other
+ * threads are pushing or popping.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class ConcurrentStack<T> {
+
+    // Number of times a parked push checks whether a pop has taken it
+    private static final int ELIMINATION_SPINS = 64;
+
+    // Instance variables
+    private final AtomicReference<Node<T>> top = new AtomicReference<>();  // Top node of the stack
+    private final AtomicReferenceArray<Node<T>> eliminationArray;           // Parked pushes
+    private final LongAdder size = new LongAdder();                         // Approximate size
+
+    /**
+     * Default constructor
+     * Initializes an empty stack with one elimination slot per available processor
+     */
+    public ConcurrentStack() {
+        this.eliminationArray = new AtomicReferenceArray<>(
+                Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 32)));
+    }
+
+    /**
+     * Push operation - adds an element to the top of the stack
+     * Algorithm:
+     * 1. Create a new node whose next reference is the current top
+     * 2. Compare-and-set top from the old top to the new node
+     * 3. If another thread changed top first, try to hand the node to a concurrent
+     *    pop through the elimination array, otherwise retry from step 1
+     *
+     * Time Complexity: O(1) without contention
+     * Space Complexity: O(1)
+     *
+     * @param data The data to be pushed onto the stack
+     */
+    public void push(T data) {
+        Node<T> newNode = new Node<>(data);
+        while (true) {
+            Node<T> current = top.get();
+            newNode.setNext(current);
+            if (top.compareAndSet(current, newNode)) {
+                size.increment();
+                return;
+            }
+            if (tryEliminatePush(newNode)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Pop operation - removes and returns the top element from the stack
+     * Algorithm:
+     * 1. Read top, throw exception if the stack is empty
+     * 2. Compare-and-set top from the old top to its next node
+     * 3. If another thread changed top first, try to take a parked push from the
+     *    elimination array, otherwise retry from step 1
+     *
+     * Time Complexity: O(1) without contention
+     * Space Complexity: O(1)
+     *
+     * @return The data from the top of the stack
+     * @throws RuntimeException if stack is empty
+     */
+    public T pop() {
+        while (true) {
+            Node<T> current = top.get();
+            if (current == null) {
+                throw new RuntimeException("Stack is empty. Cannot pop from empty stack.");
+            }
+            if (top.compareAndSet(current, current.getNext())) {
+                size.decrement();
+                return current.getData();
+            }
+            Node<T> eliminated = tryEliminatePop();
+            if (eliminated != null) {
+                return eliminated.getData();
+            }
+        }
+    }
+
+    /**
+     * Park a node in a random elimination slot and wait briefly for a pop to take it
+     *
+     * @param node The node being pushed
+     * @return true if a pop took the node, false if the push must be retried
+     */
+    private boolean tryEliminatePush(Node<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length());
+        if (!eliminationArray.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (eliminationArray.get(slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // Withdraw the offer; if that fails a pop took the node in the meantime
+        return !eliminationArray.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Take a node parked by a concurrent push from a random elimination slot
+     *
+     * @return The node taken, or null if there was none
+     */
+    private Node<T> tryEliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length());
+        Node<T> node = eliminationArray.get(slot);
+        if (node != null && eliminationArray.compareAndSet(slot, node, null)) {
+            return node;
+        }
+        return null;
+    }
+
+    /**
+     * Peek operation - returns the top element without removing it
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @return The data from the top of the stack
+     * @throws RuntimeException if stack is empty
+     */
+    public T peek() {
+        Node<T> current = top.get();
+        if (current == null) {
+            throw new RuntimeException("Stack is empty. Cannot peek empty stack.");
+        }
+
+        return current.getData();
+    }
+
+    /**
+     * Check if the stack is empty
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @return true if stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * Get the approximate size of the stack
+     * Exact when no other thread is pushing or popping
+     *
+     * Time Complexity: O(number of LongAdder cells)
+     * Space Complexity: O(1)
+     *
+     * @return The number of elements in the stack
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));
+    }
+
+    /**
+     * Clear all elements from the stack
+     * The size is only reset accurately if no other thread is pushing or popping
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     */
+    public void clear() {
+        top.set(null);
+        size.reset();
+    }
+
+    /**
+     * Display all elements in the stack from top to bottom
+     * Shows a snapshot of the stack at the time the top was read
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     */
+    public void display() {
+        Node<T> current = top.get();
+        if (current == null) {
+            System.out.println("Stack is empty");
+            return;
+        }
+
+        System.out.print("Stack (top to bottom): ");
+        while (current != null) {
+            System.out.print(current.getData());
+            if (current.getNext() != null) {
+                System.out.print(" -> ");
+            }
+            current = current.getNext();
+        }
+        System.out.println();
+    }
+
+    /**
+     * Convert stack to array representation (top to bottom)
+     * Returns a snapshot of the stack at the time the top was read
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @return Array representation of stack elements
+     */
+    public Object[] toArray() {
+        Node<T> snapshot = top.get();
+        int count = 0;
+        for (Node<T> current = snapshot; current != null; current = current.getNext()) {
+            count++;
+        }
+
+        Object[] array = new Object[count];
+        int index = 0;
+        for (Node<T> current = snapshot; current != null; current = current.getNext()) {
+            array[index++] = current.getData();
+        }
+        return array;
+    }
+
+    /**
+     * Search for an element in the stack
+     * Searches a snapshot of the stack at the time the top was read
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param target The element to search for
+     * @return Position from top (1-based) if found, -1 otherwise
+     */
+    public int search(T target) {
+        if (target == null) {
+            return -1;
+        }
+
+        int position = 1;
+        for (Node<T> current = top.get(); current != null; current = current.getNext()) {
+            if (target.equals(current.getData())) {
+                return position;
+            }
+            position++;
+        }
+        return -1;
+    }
+}
\ No newline at end of file
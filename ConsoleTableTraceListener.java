@@ -0,0 +1,105 @@
+import java.io.PrintStream;
+
+/**
+ * ConsoleTableTraceListener class - prints the step-by-step tables from the PDF
+ * Conversion rows show Symbol, Postfix Expression and Operator Stack; evaluation
+ * rows show Symbol, Operand1, Operand2, Value and Stack.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class ConsoleTableTraceListener implements ConversionTraceListener, EvaluationTraceListener {
+
+    // Header of the Postfix Expression column of the conversion table
+    private static final String POSTFIX_HEADER = "Postfix Expression";
+
+    // Row format of the evaluation table
+    private static final String EVALUATION_ROW_FORMAT = "%-8s| %-10s| %-10s| %-10s| %s%n";
+
+    // Instance variables
+    private final PrintStream out;       // Stream the tables are printed to
+    private String conversionRowFormat;  // Row format sized for the current infix expression
+
+    /**
+     * Default constructor
+     * Prints to System.out
+     */
+    public ConsoleTableTraceListener() {
+        this(System.out);
+    }
+
+    /**
+     * Parameterized constructor
+     *
+     * @param out Stream the tables are printed to
+     */
+    public ConsoleTableTraceListener(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onConversionStart(String infixExpression) {
+        int postfixWidth = Math.max(POSTFIX_HEADER.length(), infixExpression.length() * 2);
+        conversionRowFormat = "%-8s| %-" + postfixWidth + "s | %s%n";
+        out.printf(conversionRowFormat, "Symbol", POSTFIX_HEADER, "Operator Stack");
+        printSeparator(8 + postfixWidth + 20);
+    }
+
+    @Override
+    public void onSymbol(CharSequence symbol, CharSequence postfix, CharStack operatorStack) {
+        out.printf(conversionRowFormat, symbol, postfix, operatorNames(operatorStack));
+    }
+
+    @Override
+    public void onConversionFinish(CharSequence postfix) {
+        out.printf(conversionRowFormat, "", postfix, "");
+    }
+
+    @Override
+    public void onEvaluationStart(String postfixExpression) {
+        out.printf(EVALUATION_ROW_FORMAT, "Symbol", "Operand1", "Operand2", "Value", "Stack");
+        printSeparator(60);
+    }
+
+    @Override
+    public void onOperand(CharSequence symbol, double value, DoubleStack operandStack) {
+        out.printf(EVALUATION_ROW_FORMAT, symbol, "", "", "", operandStack);
+    }
+
+    @Override
+    public void onOperator(char operator, double operand1, double operand2, double value,
+                           DoubleStack operandStack) {
+        String operand2Text = OperatorRegistry.getArity(operator) == 1 ? "" : Converter.formatValue(operand2);
+        out.printf(EVALUATION_ROW_FORMAT, OperatorRegistry.getName(operator), Converter.formatValue(operand1),
+                operand2Text, Converter.formatValue(value), operandStack);
+    }
+
+    /**
+     * Get the Operator Stack column: the stack from bottom to top, with function
+     * codes written as function names
+     *
+     * @param operatorStack The operator stack
+     * @return The column text
+     */
+    private static String operatorNames(CharStack operatorStack) {
+        StringBuilder names = new StringBuilder(operatorStack.size());
+        for (int i = 0; i < operatorStack.size(); i++) {
+            names.append(OperatorRegistry.getName(operatorStack.get(i)));
+        }
+        return names.toString();
+    }
+
+    /**
+     * Print a horizontal table separator
+     *
+     * @param width Number of dashes to print
+     */
+    private void printSeparator(int width) {
+        StringBuilder line = new StringBuilder(width);
+        for (int i = 0; i < width; i++) {
+            line.append('-');
+        }
+        out.println(line);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+/**
+ * ConversionTraceListener interface - receives the steps of an infix to postfix conversion
+ * Converter runs the conversion algorithm once and reports every processed symbol to
+ * a listener, so printing the step-by-step table is a matter of choosing the listener:
+ * NoOpTraceListener (nothing), ConsoleTableTraceListener (the PDF table),
+ * TableRenderer (the PDF table, buffered, for large traces) or
+ * CollectingTraceListener (rows kept in memory).
+ *
+ * The symbol, postfix and stack arguments are live views of the converter's state and are
+ * only valid during the call; copy them if they need to be kept.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public interface ConversionTraceListener {
+
+    /**
+     * Called once before the first symbol is processed
+     *
+     * @param infixExpression The infix expression being converted
+     */
+    default void onConversionStart(String infixExpression) {
+    }
+
+    /**
+     * Called after each symbol of the infix expression has been processed
+     * (one row of the Symbol / Postfix Expression / Operator Stack table)
+     *
+     * @param symbol The symbol (token) just processed
+     * @param postfix The postfix expression built so far
+     * @param operatorStack The operator stack after processing the symbol (functions
+     *                      appear as their codes, see OperatorRegistry.getName)
+     */
+    void onSymbol(CharSequence symbol, CharSequence postfix, CharStack operatorStack);
+
+    /**
+     * Called every time an operator, function code or '(' is pushed onto the operator stack
+     * Together with onOperatorPop this lets a listener keep its own copy of the
+     * stack up to date in O(1) per step instead of copying operatorStack per row
+     *
+     * @param operator The operator, function code or '(' pushed
+     */
+    default void onOperatorPush(char operator) {
+    }
+
+    /**
+     * Called every time an operator, function code or '(' is popped from the operator stack
+     *
+     * @param operator The operator, function code or '(' popped
+     */
+    default void onOperatorPop(char operator) {
+    }
+
+    /**
+     * Called once after the remaining operators have been popped
+     *
+     * @param postfix The complete postfix expression
+     */
+    default void onConversionFinish(CharSequence postfix) {
+    }
+}
\ No newline at end of file
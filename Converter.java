@@ -1,9 +1,7 @@
 /**
  * Converter class for Infix to Postfix conversion and Postfix evaluation
- * This class provides the basic structure and some utility methods
- * 
- * NOTE: The main conversion and evaluation methods are left as placeholders
- * for the next coder to implement according to the PDF specifications
+ * This class provides the conversion and evaluation algorithms from the PDF
+ * specifications together with some utility methods
  * 
  * @author [Student Name]
  * @version 1.0
@@ -11,53 +9,559 @@
  */
 public class Converter {
     
+    // Compiled expressions keyed by normalized infix expression (see normalize)
+    private static final LruCache<String, CompiledExpression> EXPRESSION_CACHE =
+            new LruCache<>(Integer.getInteger("converter.cache.size", 4096));
+    
     /**
      * Convert infix expression to postfix with detailed table output
-     * 
-     * TODO: Implement the exact algorithm from PDF pages 4-5
-     * Algorithm should:
+     * Algorithm (PDF pages 4-5):
      * 1. Use a stack for operators
      * 2. Process each symbol in the infix expression
-     * 3. Handle operator precedence: ^ (highest), multiply/divide, add/subtract (lowest)
-     * 4. Handle parentheses correctly
-     * 5. Print step-by-step table showing Symbol, Postfix Expression, Operator Stack
+     * 3. Operands are appended to the postfix expression immediately
+     * 4. '(' is pushed, ')' pops operators until the matching '('
+     * 5. An operator pops every operator of higher precedence, and of equal precedence
+     *    when it is left-associative, then is pushed
+     * 6. A function name is pushed; the ')' closing its arguments pops it, and a ','
+     *    between arguments pops operators until the '(' (see OperatorRegistry)
+     * 7. Remaining operators are popped at the end of the input
+     * 8. Print step-by-step table showing Symbol, Postfix Expression, Operator Stack
+     * 
+     * The operator stack is a primitive CharStack so no node or Character box
+     * is allocated per symbol. The table is formatted by a TableRenderer and written
+     * to System.out in large blocks; rows recorded before an error are still printed
      * 
      * @param infixExpression The infix expression to convert (no spaces)
      * @return The postfix expression (with spaces between tokens)
+     * @throws RuntimeException if the expression is invalid (the message gives the position)
      */
     public static String convertInfixToPostfixWithTable(String infixExpression) {
-        // TODO: Implement this method for the next coder
-        // This should follow the exact algorithm from the PDF
+        TableRenderer renderer = new TableRenderer();
+        try {
+            return convertInfixToPostfix(infixExpression, renderer);
+        } finally {
+            renderer.flush();
+        }
+    }
+    
+    /**
+     * Convert infix expression to postfix without printing the table
+     * Uses the same algorithm as convertInfixToPostfixWithTable; the result
+     * comes from the expression cache when the expression was seen before
+     * 
+     * @param infixExpression The infix expression to convert
+     * @return The postfix expression (with spaces between tokens)
+     * @throws RuntimeException if the expression is invalid
+     */
+    public static String convertInfixToPostfix(String infixExpression) {
+        return compile(infixExpression).getPostfix();
+    }
+    
+    /**
+     * Get the compiled form of an infix expression
+     * Algorithm:
+     * 1. Normalize the whitespace to build the cache key
+     * 2. Return the cached CompiledExpression if there is one
+     * 3. Otherwise convert to postfix in a single validating pass (see
+     *    tryConvertInfixToPostfix), compile, optimize (see ExpressionOptimizer)
+     *    and add the result to the cache
+     * 
+     * Compiled expressions are immutable, so the same instance is shared by all callers
+     * 
+     * @param infixExpression The infix expression to compile
+     * @return The compiled expression
+     * @throws RuntimeException if the expression is invalid (the message gives the position)
+     */
+    public static CompiledExpression compile(String infixExpression) {
+        String key = normalize(infixExpression);
+        CompiledExpression compiled = EXPRESSION_CACHE.get(key);
+        if (compiled == null) {
+            ExpressionResult conversion = tryConvertInfixToPostfix(infixExpression);
+            if (!conversion.isValid()) {
+                throw new RuntimeException(conversion.getErrorMessage());
+            }
+            CompiledExpression program = CompiledExpression.compilePostfix(conversion.getPostfix());
+            compiled = ExpressionOptimizer.optimize(program).getExpression();
+            compiled = EXPRESSION_CACHE.putIfAbsent(key, compiled);
+        }
+        return compiled;
+    }
+    
+    /**
+     * Get the cache used by compile and convertInfixToPostfix
+     * Exposes the hit, miss and eviction counters for sizing the cache
+     * (capacity is set with the converter.cache.size system property)
+     * 
+     * @return The expression cache
+     */
+    public static LruCache<String, CompiledExpression> getExpressionCache() {
+        return EXPRESSION_CACHE;
+    }
+    
+    /**
+     * Remove whitespace that does not separate two tokens from an expression
+     * Whitespace between two operands is kept as a single space, so that for example
+     * "12 3" and "123" do not share a cache entry. Returns the same string when there
+     * is no whitespace at all.
+     * 
+     * @param expression The expression to normalize
+     * @return The normalized expression
+     */
+    private static String normalize(String expression) {
+        int length = expression.length();
+        for (int i = 0; i < length; i++) {
+            if (Character.isWhitespace(expression.charAt(i))) {
+                StringBuilder builder = new StringBuilder(length);
+                ExpressionTokenizer tokenizer = new ExpressionTokenizer(expression);
+                boolean previousWasOperand = false;
+                int kind;
+                while ((kind = tokenizer.next()) != ExpressionTokenizer.END) {
+                    boolean operand = kind == ExpressionTokenizer.NUMBER || kind == ExpressionTokenizer.IDENTIFIER
+                            || kind == ExpressionTokenizer.FUNCTION;
+                    if (operand && previousWasOperand) {
+                        builder.append(' ');
+                    }
+                    builder.append(expression, tokenizer.getTokenStart(), tokenizer.getTokenEnd());
+                    previousWasOperand = operand;
+                }
+                return builder.toString();
+            }
+        }
+        return expression;
+    }
+    
+    /**
+     * Convert infix expression to postfix, reporting every step to a listener
+     * The other conversion methods only choose the listener (and whether to use the
+     * expression cache); every actual conversion goes through the same algorithm and
+     * is recorded in ConverterMetrics.CONVERSION when metrics are enabled
+     * 
+     * @param infixExpression The infix expression to convert
+     * @param listener Receives a row for every processed symbol
+     * @return The postfix expression (with spaces between tokens)
+     * @throws RuntimeException if the expression is invalid (the message gives the position)
+     */
+    public static String convertInfixToPostfix(String infixExpression, ConversionTraceListener listener) {
+        ExpressionResult result = tryConvertInfixToPostfix(infixExpression, listener);
+        if (!result.isValid()) {
+            throw new RuntimeException(result.getErrorMessage());
+        }
+        return result.getPostfix();
+    }
+    
+    /**
+     * Convert infix expression to postfix, validating it in the same pass
+     * Algorithm:
+     * 1. Run the conversion algorithm, tracking whether an operand or an operator
+     *    is expected next, the offset of every open parenthesis and, for the
+     *    parentheses of a function call, the number of arguments so far
+     * 2. Stop at the first token that breaks the operand/operator order, closes a
+     *    parenthesis that was never opened, is a comma outside a function call, ends
+     *    a call with the wrong number of arguments, or is not a valid character
+     * 3. At the end of the input, reject a missing final operand and report the
+     *    first parenthesis that was never closed
+     * 
+     * Invalid input is reported in the result rather than thrown, so rejecting it
+     * costs no more than the single scan that reaches the bad token.
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     * 
+     * @param infixExpression The infix expression to convert
+     * @return The postfix expression, or the offset and reason of the first error
+     */
+    public static ExpressionResult tryConvertInfixToPostfix(String infixExpression) {
+        return tryConvertInfixToPostfix(infixExpression, NoOpTraceListener.INSTANCE);
+    }
+    
+    /**
+     * Convert infix expression to postfix with a listener, recording the conversion
+     * in ConverterMetrics.CONVERSION when metrics are enabled
+     * 
+     * @param infixExpression The infix expression to convert
+     * @param listener Receives a row for every processed symbol
+     * @return The postfix expression, or the offset and reason of the first error
+     */
+    private static ExpressionResult tryConvertInfixToPostfix(String infixExpression,
+                                                             ConversionTraceListener listener) {
+        ExpressionTokenizer tokenizer = new ExpressionTokenizer(infixExpression);
+        if (!ConverterMetrics.ENABLED) {
+            return convertInfixToPostfix(tokenizer, infixExpression, listener);
+        }
+        
+        long start = System.nanoTime();
+        ExpressionResult result = convertInfixToPostfix(tokenizer, infixExpression, listener);
+        ConverterMetrics.CONVERSION.record(start, tokenizer.getTokenCount(), !result.isValid());
+        return result;
+    }
+    
+    /**
+     * The conversion algorithm itself (see convertInfixToPostfixWithTable and
+     * tryConvertInfixToPostfix); the listener sees every step up to the first error
+     * 
+     * @param tokenizer Tokenizer positioned at the start of infixExpression
+     * @param infixExpression The infix expression to convert
+     * @param listener Receives a row for every processed symbol
+     * @return The postfix expression, or the offset and reason of the first error
+     */
+    private static ExpressionResult convertInfixToPostfix(ExpressionTokenizer tokenizer, String infixExpression,
+                                                          ConversionTraceListener listener) {
+        CharStack operatorStack = new CharStack();
+        IntStack openParenOffsets = new IntStack();
+        IntStack argumentCounts = new IntStack();   // Per open parenthesis, 0 if not a function call
+        StringBuilder postfix = new StringBuilder(infixExpression.length() * 2);
+        boolean expectOperand = true;
+        boolean expectCall = false;                 // The previous token was a function name
         
-        System.out.println("TODO: Implement infix to postfix conversion with table output");
-        System.out.println("Input: " + infixExpression);
+        listener.onConversionStart(infixExpression);
         
-        // Placeholder return - next coder should implement the full algorithm
-        return "TODO: Implement conversion";
+        int kind;
+        while ((kind = tokenizer.next()) != ExpressionTokenizer.END) {
+            int offset = tokenizer.getTokenStart();
+            char symbol = tokenizer.getSymbol();
+            if (expectCall && kind != ExpressionTokenizer.LEFT_PAREN) {
+                return ExpressionResult.error(offset, "Missing ( after function: "
+                        + OperatorRegistry.getName(operatorStack.peek()));
+            }
+            
+            switch (kind) {
+                case ExpressionTokenizer.NUMBER:
+                case ExpressionTokenizer.IDENTIFIER:
+                    if (!expectOperand) {
+                        return ExpressionResult.error(offset, "Missing operator before: " + tokenizer.getTokenText());
+                    }
+                    appendToken(postfix, infixExpression, offset, tokenizer.getTokenEnd());
+                    expectOperand = false;
+                    break;
+                case ExpressionTokenizer.LEFT_PAREN:
+                    if (!expectOperand) {
+                        return ExpressionResult.error(offset, "Missing operator before: (");
+                    }
+                    pushOperator(operatorStack, symbol, listener);
+                    openParenOffsets.push(offset);
+                    argumentCounts.push(expectCall ? 1 : 0);
+                    expectCall = false;
+                    break;
+                case ExpressionTokenizer.RIGHT_PAREN:
+                    if (expectOperand) {
+                        return ExpressionResult.error(offset, "Missing operand before: )");
+                    }
+                    while (!operatorStack.isEmpty() && operatorStack.peek() != '(') {
+                        appendToken(postfix, popOperator(operatorStack, listener));
+                    }
+                    if (operatorStack.isEmpty()) {
+                        return ExpressionResult.error(offset, "Mismatched parentheses");
+                    }
+                    popOperator(operatorStack, listener);
+                    openParenOffsets.pop();
+                    int arguments = argumentCounts.pop();
+                    if (arguments > 0) {
+                        char function = popOperator(operatorStack, listener);
+                        if (arguments != OperatorRegistry.getArity(function)) {
+                            return ExpressionResult.error(offset, "Function " + OperatorRegistry.getName(function)
+                                    + " expects " + OperatorRegistry.getArity(function) + " argument(s) but got "
+                                    + arguments);
+                        }
+                        appendToken(postfix, function);
+                    }
+                    break;
+                case ExpressionTokenizer.COMMA:
+                    if (expectOperand) {
+                        return ExpressionResult.error(offset, "Missing operand before: ,");
+                    }
+                    if (argumentCounts.isEmpty() || argumentCounts.peek() == 0) {
+                        return ExpressionResult.error(offset, "Misplaced comma");
+                    }
+                    while (operatorStack.peek() != '(') {
+                        appendToken(postfix, popOperator(operatorStack, listener));
+                    }
+                    argumentCounts.push(argumentCounts.pop() + 1);
+                    expectOperand = true;
+                    break;
+                case ExpressionTokenizer.FUNCTION:
+                    if (!expectOperand) {
+                        return ExpressionResult.error(offset, "Missing operator before: " + tokenizer.getTokenText());
+                    }
+                    pushOperator(operatorStack, symbol, listener);
+                    expectCall = true;
+                    break;
+                case ExpressionTokenizer.OPERATOR:
+                    if (expectOperand) {
+                        return ExpressionResult.error(offset, "Missing operand before: " + symbol);
+                    }
+                    while (!operatorStack.isEmpty() && operatorStack.peek() != '('
+                            && hasHigherOrEqualPrecedence(operatorStack.peek(), symbol)) {
+                        appendToken(postfix, popOperator(operatorStack, listener));
+                    }
+                    pushOperator(operatorStack, symbol, listener);
+                    expectOperand = true;
+                    break;
+                default:
+                    return ExpressionResult.error(offset, "Invalid character: " + symbol);
+            }
+            
+            listener.onSymbol(tokenizer.getTokenText(), postfix, operatorStack);
+        }
+        
+        if (expectCall) {
+            return ExpressionResult.error(infixExpression.length(), "Missing ( after function: "
+                    + OperatorRegistry.getName(operatorStack.peek()));
+        }
+        if (expectOperand) {
+            return ExpressionResult.error(infixExpression.length(),
+                    tokenizer.getTokenCount() == 0 ? "Empty expression" : "Missing operand at end of expression");
+        }
+        if (!openParenOffsets.isEmpty()) {
+            return ExpressionResult.error(openParenOffsets.get(0), "Mismatched parentheses");
+        }
+        while (!operatorStack.isEmpty()) {
+            appendToken(postfix, popOperator(operatorStack, listener));
+        }
+        listener.onConversionFinish(postfix);
+        
+        return ExpressionResult.converted(postfix.toString());
     }
     
     /**
-     * Evaluate postfix expression with detailed table output
+     * Push an operator, function code or '(' onto the operator stack and report it
+     * to the listener
+     * 
+     * @param operatorStack The operator stack
+     * @param operator The operator to push
+     * @param listener The listener of the conversion
+     */
+    private static void pushOperator(CharStack operatorStack, char operator, ConversionTraceListener listener) {
+        operatorStack.push(operator);
+        listener.onOperatorPush(operator);
+    }
+    
+    /**
+     * Pop an operator (or '(') from the operator stack and report it to the listener
      * 
-     * TODO: Implement the exact algorithm from PDF pages 6-7
-     * Algorithm should:
+     * @param operatorStack The operator stack
+     * @param listener The listener of the conversion
+     * @return The popped operator
+     */
+    private static char popOperator(CharStack operatorStack, ConversionTraceListener listener) {
+        char operator = operatorStack.pop();
+        listener.onOperatorPop(operator);
+        return operator;
+    }
+    
+    /**
+     * Evaluate postfix expression with detailed table output
+     * Algorithm (PDF pages 6-7):
      * 1. Use a stack for operands
      * 2. Process each token in the postfix expression
-     * 3. Push operands to stack, perform operations with operators
+     * 3. Push operands to stack; for an operator pop Operand2 then Operand1,
+     *    apply the operator and push the Value
      * 4. Print step-by-step table showing Symbol, Operand1, Operand2, Value, Stack
+     * 5. The single value left on the stack is the result
+     * 
+     * The operand stack is a primitive DoubleStack so operands are never boxed.
+     * The table is formatted by a TableRenderer and written to System.out in large
+     * blocks; rows recorded before an error are still printed
      * 
      * @param postfixExpression The postfix expression to evaluate (space-separated)
      * @return The final result of the evaluation
+     * @throws RuntimeException if the expression is malformed or divides by zero
      */
     public static double evaluatePostfixWithTable(String postfixExpression) {
-        // TODO: Implement this method for the next coder
-        // This should follow the exact algorithm from the PDF
+        TableRenderer renderer = new TableRenderer();
+        try {
+            return evaluatePostfix(postfixExpression, renderer);
+        } finally {
+            renderer.flush();
+        }
+    }
+    
+    /**
+     * Evaluate postfix expression without printing the table
+     * Uses the same algorithm as evaluatePostfixWithTable
+     * 
+     * @param postfixExpression The postfix expression to evaluate (space-separated)
+     * @return The final result of the evaluation
+     * @throws RuntimeException if the expression is malformed or divides by zero
+     */
+    public static double evaluatePostfix(String postfixExpression) {
+        return evaluatePostfix(postfixExpression, NoOpTraceListener.INSTANCE);
+    }
+    
+    /**
+     * Evaluate postfix expression, reporting every step to a listener
+     * The other evaluation methods only choose the listener; every evaluation goes
+     * through the same algorithm and is recorded in ConverterMetrics.EVALUATION when
+     * metrics are enabled
+     * 
+     * @param postfixExpression The postfix expression to evaluate (space-separated)
+     * @param listener Receives a row for every processed token
+     * @return The final result of the evaluation
+     * @throws RuntimeException if the expression is malformed or divides by zero
+     *                          (the message gives the position)
+     */
+    public static double evaluatePostfix(String postfixExpression, EvaluationTraceListener listener) {
+        ExpressionResult result = tryEvaluatePostfix(postfixExpression, listener);
+        if (!result.isValid()) {
+            throw new RuntimeException(result.getErrorMessage());
+        }
+        return result.getValue();
+    }
+    
+    /**
+     * Evaluate postfix expression, validating it in the same pass
+     * Algorithm:
+     * 1. Run the evaluation algorithm
+     * 2. Stop at the first token that is not a number, operator or function, at an
+     *    operator or function with too few operands on the stack, or at a division
+     *    by zero (or another error thrown by an operator or function)
+     * 3. At the end of the input, reject anything but exactly one value on the stack
+     * 
+     * Invalid input is reported in the result rather than thrown, so rejecting it
+     * costs no more than the single scan that reaches the bad token.
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     * 
+     * @param postfixExpression The postfix expression to evaluate (space-separated)
+     * @return The value, or the offset and reason of the first error
+     */
+    public static ExpressionResult tryEvaluatePostfix(String postfixExpression) {
+        return tryEvaluatePostfix(postfixExpression, NoOpTraceListener.INSTANCE);
+    }
+    
+    /**
+     * Evaluate postfix expression with a listener, recording the evaluation in
+     * ConverterMetrics.EVALUATION when metrics are enabled
+     * 
+     * @param postfixExpression The postfix expression to evaluate
+     * @param listener Receives a row for every processed token
+     * @return The value, or the offset and reason of the first error
+     */
+    private static ExpressionResult tryEvaluatePostfix(String postfixExpression, EvaluationTraceListener listener) {
+        ExpressionTokenizer tokenizer = new ExpressionTokenizer(postfixExpression);
+        if (!ConverterMetrics.ENABLED) {
+            return evaluatePostfix(tokenizer, postfixExpression, listener);
+        }
         
-        System.out.println("TODO: Implement postfix evaluation with table output");
-        System.out.println("Input: " + postfixExpression);
+        long start = System.nanoTime();
+        ExpressionResult result = evaluatePostfix(tokenizer, postfixExpression, listener);
+        ConverterMetrics.EVALUATION.record(start, tokenizer.getTokenCount(), !result.isValid());
+        return result;
+    }
+    
+    /**
+     * The evaluation algorithm itself (see evaluatePostfixWithTable and
+     * tryEvaluatePostfix); the listener sees every step up to the first error
+     * 
+     * @param tokenizer Tokenizer positioned at the start of postfixExpression
+     * @param postfixExpression The postfix expression to evaluate (space-separated)
+     * @param listener Receives a row for every processed token
+     * @return The value, or the offset and reason of the first error
+     */
+    private static ExpressionResult evaluatePostfix(ExpressionTokenizer tokenizer, String postfixExpression,
+                                                    EvaluationTraceListener listener) {
+        DoubleStack operandStack = new DoubleStack();
         
-        // Placeholder return - next coder should implement the full algorithm
-        return 0.0;
+        listener.onEvaluationStart(postfixExpression);
+        
+        int kind;
+        while ((kind = tokenizer.next()) != ExpressionTokenizer.END) {
+            int offset = tokenizer.getTokenStart();
+            if (kind == ExpressionTokenizer.NUMBER) {
+                double value = tokenizer.getNumberValue();
+                operandStack.push(value);
+                listener.onOperandPush(value);
+                listener.onOperand(tokenizer.getTokenText(), value, operandStack);
+            } else if (kind == ExpressionTokenizer.OPERATOR || kind == ExpressionTokenizer.FUNCTION) {
+                char operator = tokenizer.getSymbol();
+                int arity = OperatorRegistry.getArity(operator);
+                if (operandStack.size() < arity) {
+                    return ExpressionResult.error(offset, "Not enough operands for operator: "
+                            + tokenizer.getTokenText());
+                }
+                double operand2 = operandStack.pop();
+                listener.onOperandPop(operand2);
+                double operand1;
+                if (arity == 2) {
+                    operand1 = operandStack.pop();
+                    listener.onOperandPop(operand1);
+                } else {
+                    operand1 = operand2;
+                    operand2 = Double.NaN;
+                }
+                double value;
+                try {
+                    value = arity == 2 ? OperatorRegistry.apply(operator, operand1, operand2)
+                            : OperatorRegistry.apply(operator, operand1);
+                } catch (RuntimeException e) {
+                    return ExpressionResult.error(offset, e.getMessage());
+                }
+                operandStack.push(value);
+                listener.onOperandPush(value);
+                listener.onOperator(operator, operand1, operand2, value, operandStack);
+            } else if (kind == ExpressionTokenizer.IDENTIFIER) {
+                return ExpressionResult.error(offset, "Invalid operand: " + tokenizer.getTokenText());
+            } else {
+                return ExpressionResult.error(offset, "Invalid token: " + tokenizer.getTokenText());
+            }
+        }
+        
+        if (operandStack.size() != 1) {
+            return ExpressionResult.error(postfixExpression.length(), operandStack.isEmpty() ? "Empty expression"
+                    : "Invalid postfix expression: " + operandStack.size() + " values left on the stack");
+        }
+        double result = operandStack.pop();
+        listener.onOperandPop(result);
+        listener.onEvaluationFinish(result);
+        return ExpressionResult.evaluated(result);
+    }
+    
+    /**
+     * Format a value for display: whole numbers are printed without a fraction
+     * so that the tables match the PDF (52 rather than 52.0)
+     * 
+     * @param value The value to format
+     * @return String representation of the value
+     */
+    public static String formatValue(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+    
+    /**
+     * Append a token copied from part of the input to a postfix expression, separated by a space
+     * The characters are copied directly, so no substring is created
+     * 
+     * @param postfix The postfix expression being built
+     * @param input The expression the token was read from
+     * @param start Start offset of the token
+     * @param end End offset (exclusive) of the token
+     */
+    private static void appendToken(StringBuilder postfix, CharSequence input, int start, int end) {
+        if (postfix.length() > 0) {
+            postfix.append(' ');
+        }
+        postfix.append(input, start, end);
+    }
+    
+    /**
+     * Append an operator to a postfix expression, separated by a space
+     * A function code is written as the function name
+     * 
+     * @param postfix The postfix expression being built
+     * @param token The operator character or function code to append
+     */
+    private static void appendToken(StringBuilder postfix, char token) {
+        if (postfix.length() > 0) {
+            postfix.append(' ');
+        }
+        if (OperatorRegistry.isFunction(token)) {
+            postfix.append(OperatorRegistry.getName(token));
+        } else {
+            postfix.append(token);
+        }
     }
     
     /**
@@ -72,13 +576,14 @@ public class Converter {
     
     /**
      * Check if character is a valid operator
-     * Based on PDF requirements: +, -, *, /, ^
+     * Based on PDF requirements: +, -, *, /, ^, plus any operator added to the
+     * OperatorRegistry
      * 
      * @param ch Character to check
      * @return true if valid operator, false otherwise
      */
     public static boolean isOperator(char ch) {
-        return ch == '+' || ch == '-' || ch == '*' || ch == '/' || ch == '^';
+        return OperatorRegistry.isOperator(ch);
     }
     
     /**
@@ -87,38 +592,27 @@ public class Converter {
      * 1. ^ (Exponentiation) - highest precedence
      * 2. *, / (Multiplication, Division) - medium precedence  
      * 3. +, - (Addition, Subtraction) - lowest precedence
+     * Registered operators have the precedence they were registered with
      * 
      * @param operator The operator character
      * @return Precedence value (higher number = higher precedence)
      */
     public static int getPrecedence(char operator) {
-        switch (operator) {
-            case '+':
-            case '-':
-                return 1;
-            case '*':
-            case '/':
-                return 2;
-            case '^':
-                return 3;
-            default:
-                return 0;
-        }
+        return OperatorRegistry.getPrecedence(operator);
     }
     
     /**
-     * Check if operator1 has higher or equal precedence than operator2
-     * Note: Exponentiation is right-to-left associative, others are left-to-right
+     * Check if operator1 (on the operator stack) must be popped before operator2 is pushed
+     * Exponentiation is right-to-left associative, the others are left-to-right:
+     * operator1 is popped if it has higher precedence, or equal precedence and
+     * operator2 is left-associative (so A^B^C is A^(B^C) but A-B-C is (A-B)-C)
      * 
-     * TODO: Next coder should implement proper associativity rules from PDF
-     * 
-     * @param operator1 First operator
-     * @param operator2 Second operator
-     * @return true if operator1 has higher or equal precedence
+     * @param operator1 Operator on top of the operator stack
+     * @param operator2 Incoming operator
+     * @return true if operator1 must be popped first
      */
     public static boolean hasHigherOrEqualPrecedence(char operator1, char operator2) {
-        // TODO: Implement proper precedence comparison with associativity rules
-        return getPrecedence(operator1) >= getPrecedence(operator2);
+        return OperatorRegistry.popsBefore(operator1, operator2);
     }
     
     /**
@@ -126,59 +620,54 @@ public class Converter {
      * 
      * @param operand1 First operand
      * @param operand2 Second operand
-     * @param operator The operator to apply
+     * @param operator The operator (or code of a two-argument function) to apply
      * @return Result of the operation
      * @throws RuntimeException if division by zero or invalid operator
      */
     public static double performOperation(double operand1, double operand2, char operator) {
-        switch (operator) {
-            case '+':
-                return operand1 + operand2;
-            case '-':
-                return operand1 - operand2;
-            case '*':
-                return operand1 * operand2;
-            case '/':
-                if (operand2 == 0) {
-                    throw new RuntimeException("Division by zero");
-                }
-                return operand1 / operand2;
-            case '^':
-                return Math.pow(operand1, operand2);
-            default:
-                throw new RuntimeException("Invalid operator: " + operator);
-        }
+        return OperatorRegistry.apply(operator, operand1, operand2);
     }
     
     /**
      * Validate infix expression format
-     * 
-     * TODO: Next coder should implement proper validation
-     * - Check for balanced parentheses
-     * - Check for valid characters only
-     * - Check for proper operator/operand sequence
+     * Checks valid characters, balanced parentheses and operator/operand order in
+     * one pass (see tryConvertInfixToPostfix, which also gives the error position)
      * 
      * @param expression Expression to validate
      * @return true if valid, false otherwise
      */
     public static boolean isValidInfixExpression(String expression) {
-        // TODO: Implement proper validation logic
-        return expression != null && !expression.trim().isEmpty();
+        if (expression == null) {
+            return false;
+        }
+        long start = ConverterMetrics.ENABLED ? System.nanoTime() : 0;
+        ExpressionTokenizer tokenizer = new ExpressionTokenizer(expression);
+        boolean valid = convertInfixToPostfix(tokenizer, expression, NoOpTraceListener.INSTANCE).isValid();
+        if (ConverterMetrics.ENABLED) {
+            ConverterMetrics.VALIDATION.record(start, tokenizer.getTokenCount(), !valid);
+        }
+        return valid;
     }
     
     /**
      * Validate postfix expression format
-     * 
-     * TODO: Next coder should implement proper validation
-     * - Check that tokens are space-separated
-     * - Check for valid operands and operators only
-     * - Check that expression can be evaluated
+     * Checks that the tokens are numbers and operators and that the expression
+     * evaluates to a single value (see tryEvaluatePostfix, which also gives the
+     * error position)
      * 
      * @param expression Expression to validate
      * @return true if valid, false otherwise
      */
     public static boolean isValidPostfixExpression(String expression) {
-        // TODO: Implement proper validation logic
-        return expression != null && !expression.trim().isEmpty();
+        if (expression == null) {
+            return false;
+        }
+        long start = ConverterMetrics.ENABLED ? System.nanoTime() : 0;
+        ExpressionTokenizer tokenizer = new ExpressionTokenizer(expression);
+        boolean valid = evaluatePostfix(tokenizer, expression, NoOpTraceListener.INSTANCE).isValid();
+        if (ConverterMetrics.ENABLED) {
+            ConverterMetrics.VALIDATION.record(start, tokenizer.getTokenCount(), !valid);
+        }
+        return valid;
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * ConverterMetrics class - built-in instrumentation of Converter
+ * Records calls, errors, tokens processed and latency for conversion, evaluation
+ * and validation (see OperationMetrics), and for the engines that run compiled
+ * expressions: CompiledExpression.evaluate (where the token count is the number of
+ * instructions), ColumnEvaluator.evaluateColumns (the number of rows) and
+ * ExactEvaluator.evaluate.
+ *
+ * Metrics are off unless the JVM is started with -Dconverter.metrics=true. ENABLED
+ * is a static final constant, so when it is false the JIT removes the instrumented
+ * branches entirely and the hot path is the same as without metrics.
+ *
+ * When enabled the metrics are registered as JMX MBeans named
+ * "midtermlab:type=ConverterMetrics,operation=<name>" and can also be read as plain
+ * text with report().
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public final class ConverterMetrics {
+
+    // Whether metrics are recorded; read once at class initialization
+    public static final boolean ENABLED = Boolean.getBoolean("converter.metrics");
+
+    // Metrics per operation
+    public static final OperationMetrics CONVERSION = new OperationMetrics("conversion");
+    public static final OperationMetrics EVALUATION = new OperationMetrics("evaluation");
+    public static final OperationMetrics VALIDATION = new OperationMetrics("validation");
+    public static final OperationMetrics COMPILED_EVALUATION = new OperationMetrics("compiled");
+    public static final OperationMetrics COLUMN_EVALUATION = new OperationMetrics("columns");
+    public static final OperationMetrics EXACT_EVALUATION = new OperationMetrics("exact");
+
+    // Every operation, in report order
+    private static final OperationMetrics[] ALL = {
+        CONVERSION, EVALUATION, VALIDATION, COMPILED_EVALUATION, COLUMN_EVALUATION, EXACT_EVALUATION
+    };
+
+    static {
+        if (ENABLED) {
+            registerMBeans();
+        }
+    }
+
+    /**
+     * Private constructor - static members only
+     */
+    private ConverterMetrics() {
+    }
+
+    /**
+     * Register every OperationMetrics with the platform MBean server
+     * Registration problems (for example a second class loader registering the same
+     * names) must not stop the converter from working, so they are ignored.
+     */
+    private static void registerMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (OperationMetrics metrics : ALL) {
+            try {
+                server.registerMBean(metrics,
+                        new ObjectName("midtermlab:type=ConverterMetrics,operation=" + metrics.getName()));
+            } catch (JMException e) {
+                // Already registered or not allowed; the metrics are still available via report()
+            }
+        }
+    }
+
+    /**
+     * Build a plain-text report of all operations and the expression cache
+     *
+     * @return The report, one summary line per operation followed by its histogram
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        if (!ENABLED) {
+            report.append("Metrics disabled (start with -Dconverter.metrics=true)").append(System.lineSeparator());
+        }
+        for (OperationMetrics metrics : ALL) {
+            metrics.appendReport(report);
+        }
+        report.append("expression cache: ").append(Converter.getExpressionCache()).append(System.lineSeparator());
+        return report.toString();
+    }
+
+    /**
+     * Set all metrics back to zero
+     */
+    public static void reset() {
+        for (OperationMetrics metrics : ALL) {
+            metrics.reset();
+        }
+    }
+}
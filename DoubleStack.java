@@ -0,0 +1,191 @@
+/**
+ * DoubleStack class implementation using a growable primitive array
+ * This class implements the Last-In-First-Out (LIFO) data structure for double values
+ * without boxing and without allocating a node per element
+ *
+ * Used as the operand stack when evaluating postfix expressions
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class DoubleStack {
+
+    // Default number of slots allocated for a new stack
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Instance variables
+    private double[] elements;  // Array holding the stack elements (bottom at index 0)
+    private int size;           // Current size of the stack
+
+    /**
+     * Default constructor
+     * Initializes an empty stack with the default capacity
+     */
+    public DoubleStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Parameterized constructor
+     * Initializes an empty stack with room for the given number of elements
+     *
+     * @param initialCapacity Number of elements the stack can hold before growing
+     */
+    public DoubleStack(int initialCapacity) {
+        this.elements = new double[Math.max(1, initialCapacity)];
+        this.size = 0;
+    }
+
+    /**
+     * Push operation - adds an element to the top of the stack
+     * Algorithm:
+     * 1. Grow the backing array if it is full
+     * 2. Store the value at index size
+     * 3. Increment size
+     *
+     * Time Complexity: O(1) amortized
+     * Space Complexity: O(1) amortized
+     *
+     * @param value The value to be pushed onto the stack
+     */
+    public void push(double value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Pop operation - removes and returns the top element from the stack
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @return The value from the top of the stack
+     * @throws RuntimeException if stack is empty
+     */
+    public double pop() {
+        if (isEmpty()) {
+            throw new RuntimeException("Stack is empty. Cannot pop from empty stack.");
+        }
+
+        return elements[--size];
+    }
+
+    /**
+     * Peek operation - returns the top element without removing it
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @return The value from the top of the stack
+     * @throws RuntimeException if stack is empty
+     */
+    public double peek() {
+        if (isEmpty()) {
+            throw new RuntimeException("Stack is empty. Cannot peek empty stack.");
+        }
+
+        return elements[size - 1];
+    }
+
+    /**
+     * Check if the stack is empty
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @return true if stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the current size of the stack
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @return The number of elements in the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clear all elements from the stack
+     * The backing array is kept so that the stack can be reused without allocating
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Get the element at the given position counted from the bottom of the stack
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @param index Position from the bottom (0-based)
+     * @return The value stored at that position
+     * @throws RuntimeException if index is out of range
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new RuntimeException("Stack index out of range: " + index);
+        }
+
+        return elements[index];
+    }
+
+    /**
+     * Convert stack to array representation (top to bottom, like Stack.toArray)
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @return Array of stack elements, top element first
+     */
+    public double[] toArray() {
+        double[] array = new double[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = elements[size - 1 - i];
+        }
+        return array;
+    }
+
+    /**
+     * Double the capacity of the backing array
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     */
+    private void grow() {
+        double[] larger = new double[elements.length * 2];
+        System.arraycopy(elements, 0, larger, 0, size);
+        elements = larger;
+    }
+
+    /**
+     * toString method to display stack contents from bottom to top
+     * This is the order used by the Stack column of the evaluation table
+     *
+     * @return String representation of the stack contents
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(Converter.formatValue(elements[i]));
+        }
+        return builder.toString();
+    }
+}
\ No newline at end of file
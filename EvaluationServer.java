@@ -0,0 +1,501 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * EvaluationServer class - serves conversions and evaluations over a local socket
+ * so many requests can share one JVM instead of starting a new one each time.
+ *
+ * Protocol (UTF-8, one request per line, one response line per request, in order):
+ *   CONVERT <infix>    ->  OK <postfix>
+ *   EVAL <postfix>     ->  OK <value>
+ *   anything invalid   ->  ERR <message>
+ *
+ * Lines end with "\n" (a "\r" before it is ignored) and responses end with "\n".
+ * A request line longer than the maximum request length is answered with ERR as
+ * soon as the limit is passed and the rest of it is skipped, so a client cannot
+ * make the server buffer an unbounded line.
+ *
+ * Clients may pipeline: several requests can be sent without waiting for the
+ * responses. Every request that arrives in one read is answered before the
+ * responses are written, so a pipelined batch is answered with few writes.
+ *
+ * Connections are non-blocking and multiplexed over a few event loops (one
+ * Selector and thread per processor) instead of a thread each, so an idle
+ * connection costs only its line and response buffers. serve() accepts the
+ * connections and hands them to the loops in turn. While a client is not reading
+ * its responses, the loop stops reading its requests until they have been written.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class EvaluationServer implements Closeable {
+
+    // Default maximum request line length in bytes (without the line terminator)
+    private static final int DEFAULT_MAX_REQUEST_LENGTH =
+            Integer.getInteger("converter.server.maxRequestLength", 1 << 16);
+
+    // Size of the read buffer shared by the connections of one event loop
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    // Initial size of the per-connection line and response buffers; small because
+    // most connections are idle
+    private static final int INITIAL_CONNECTION_BUFFER_SIZE = 128;
+
+    // Maximum number of pending connections waiting to be accepted
+    private static final int ACCEPT_BACKLOG = 1024;
+
+    // Instance variables
+    private final ServerSocketChannel serverChannel;   // Listening channel (blocking)
+    private final SocketAddress localAddress;          // Address actually bound
+    private final int maxRequestLength;                // Longest accepted request line, in bytes
+    private final EventLoop[] loops;                   // Loops the connections are spread over
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * Parameterized constructor - opens and binds the listening socket
+     * Request lines may be up to converter.server.maxRequestLength bytes (64 KiB
+     * by default)
+     *
+     * @param address An InetSocketAddress (TCP) or UnixDomainSocketAddress
+     * @throws IOException if the socket cannot be opened or bound
+     */
+    public EvaluationServer(SocketAddress address) throws IOException {
+        this(address, DEFAULT_MAX_REQUEST_LENGTH);
+    }
+
+    /**
+     * Parameterized constructor - opens and binds the listening socket and starts
+     * one event loop per processor
+     *
+     * @param address An InetSocketAddress (TCP) or UnixDomainSocketAddress
+     * @param maxRequestLength Longest accepted request line in bytes (without the
+     *                         line terminator)
+     * @throws IOException if the socket cannot be opened or bound
+     * @throws IllegalArgumentException if maxRequestLength is not positive
+     */
+    public EvaluationServer(SocketAddress address, int maxRequestLength) throws IOException {
+        if (maxRequestLength <= 0) {
+            throw new IllegalArgumentException("Maximum request length must be positive: " + maxRequestLength);
+        }
+        this.maxRequestLength = maxRequestLength;
+        if (address instanceof UnixDomainSocketAddress) {
+            this.serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else {
+            this.serverChannel = ServerSocketChannel.open();
+        }
+        this.loops = new EventLoop[Runtime.getRuntime().availableProcessors()];
+        try {
+            serverChannel.bind(address, ACCEPT_BACKLOG);
+            this.localAddress = serverChannel.getLocalAddress();
+            for (int i = 0; i < loops.length; i++) {
+                loops[i] = new EventLoop(Selector.open());
+            }
+        } catch (IOException e) {
+            serverChannel.close();
+            for (EventLoop loop : loops) {
+                if (loop != null) {
+                    loop.selector.close();
+                }
+            }
+            throw e;
+        }
+        for (int i = 0; i < loops.length; i++) {
+            Thread thread = new Thread(loops[i], "evaluation-loop-" + (i + 1));
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Parse a server address argument
+     * "unix:<path>" is a Unix domain socket, "<port>" or "<host>:<port>" is TCP
+     * (a bare port listens on the loopback interface only)
+     *
+     * @param text The address argument
+     * @return The socket address
+     * @throws RuntimeException if the address cannot be parsed
+     */
+    public static SocketAddress parseAddress(String text) {
+        if (text.startsWith("unix:")) {
+            return UnixDomainSocketAddress.of(text.substring("unix:".length()));
+        }
+        try {
+            int colon = text.lastIndexOf(':');
+            if (colon < 0) {
+                return new InetSocketAddress("127.0.0.1", Integer.parseInt(text));
+            }
+            return new InetSocketAddress(text.substring(0, colon), Integer.parseInt(text.substring(colon + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid server address: " + text);
+        }
+    }
+
+    /**
+     * Accept connections until the server is closed
+     * Algorithm:
+     * 1. Accept a connection (blocking)
+     * 2. Make it non-blocking and hand it to the next event loop in turn
+     * 3. Repeat until close() is called
+     *
+     * @throws IOException if accepting fails for a reason other than close()
+     */
+    public void serve() throws IOException {
+        int next = 0;
+        while (!closed) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (ClosedChannelException e) {
+                return;
+            }
+            try {
+                channel.configureBlocking(false);
+            } catch (IOException e) {
+                channel.close();
+                continue;
+            }
+            loops[next].add(channel);
+            next = next + 1 == loops.length ? 0 : next + 1;
+        }
+    }
+
+    /**
+     * Handle one request line
+     *
+     * @param request The request line
+     * @return The response line, without the line terminator
+     */
+    static String handleRequest(String request) {
+        try {
+            if (request.startsWith("CONVERT ")) {
+                ExpressionResult result = Converter.tryConvertInfixToPostfix(request.substring("CONVERT ".length()));
+                return result.isValid() ? "OK " + result.getPostfix() : "ERR " + result.getErrorMessage();
+            }
+            if (request.startsWith("EVAL ")) {
+                ExpressionResult result = Converter.tryEvaluatePostfix(request.substring("EVAL ".length()));
+                return result.isValid() ? "OK " + Converter.formatValue(result.getValue())
+                        : "ERR " + result.getErrorMessage();
+            }
+            return "ERR Unknown request. Expected CONVERT <infix> or EVAL <postfix>";
+        } catch (RuntimeException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    /**
+     * Get the address the server is listening on
+     * (useful when it was bound to port 0)
+     *
+     * @return The bound address
+     */
+    public SocketAddress getLocalAddress() {
+        return localAddress;
+    }
+
+    /**
+     * Get the longest request line accepted, in bytes
+     *
+     * @return Maximum request length
+     */
+    public int getMaxRequestLength() {
+        return maxRequestLength;
+    }
+
+    /**
+     * Get the number of connections currently open
+     *
+     * @return Open connections
+     */
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    /**
+     * Stop accepting connections, close open connections (each event loop closes
+     * its own once woken up) and remove the socket file of a Unix domain socket
+     *
+     * @throws IOException if the listening channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            serverChannel.close();
+        } finally {
+            for (EventLoop loop : loops) {
+                loop.selector.wakeup();
+            }
+            if (localAddress instanceof UnixDomainSocketAddress) {
+                Files.deleteIfExists(((UnixDomainSocketAddress) localAddress).getPath());
+            }
+        }
+    }
+
+    /**
+     * EventLoop class - serves the connections registered with one Selector on one thread
+     */
+    private final class EventLoop implements Runnable {
+
+        private final Selector selector;
+        private final Queue<SocketChannel> added = new ConcurrentLinkedQueue<>();   // Accepted, not registered
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+        /**
+         * Parameterized constructor
+         *
+         * @param selector The selector of this loop
+         */
+        EventLoop(Selector selector) {
+            this.selector = selector;
+        }
+
+        /**
+         * Hand an accepted connection to this loop
+         *
+         * @param channel A non-blocking connected channel
+         */
+        void add(SocketChannel channel) {
+            added.add(channel);
+            selector.wakeup();
+        }
+
+        /**
+         * Run the loop until the server is closed
+         * Algorithm:
+         * 1. Wait until a connection is readable or writable, or the loop is woken up
+         * 2. Register the connections added since the last round for reading
+         * 3. Read and answer the requests of every readable connection, and write
+         *    the pending responses of every writable one
+         * 4. When the server is closed, close every connection and the selector
+         */
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    selector.select();
+                    registerAdded();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                connection.read(readBuffer);
+                            } else if (key.isWritable()) {
+                                connection.flush();
+                            }
+                        } catch (IOException e) {
+                            // Client disconnected; nothing to report to
+                            connection.close();
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // The selector failed; the connections of this loop are closed below
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    ((Connection) key.attachment()).close();
+                }
+                closeAdded();
+                try {
+                    selector.close();
+                } catch (IOException e) {
+                    // Nothing left to release
+                }
+            }
+        }
+
+        /**
+         * Register the connections added by serve() with the selector
+         */
+        private void registerAdded() {
+            SocketChannel channel;
+            while ((channel = added.poll()) != null) {
+                activeConnections.incrementAndGet();
+                Connection connection = new Connection(channel);
+                try {
+                    connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                } catch (IOException e) {
+                    connection.close();
+                }
+            }
+        }
+
+        /**
+         * Close connections that were added but never registered
+         */
+        private void closeAdded() {
+            SocketChannel channel;
+            while ((channel = added.poll()) != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    // Already unusable
+                }
+            }
+        }
+    }
+
+    /**
+     * Connection class - the state of one client connection
+     * Holds the bytes of the request line being received and the responses not yet
+     * written; both buffers start small and grow only as far as they are used
+     */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private SelectionKey key;
+        private byte[] line = new byte[INITIAL_CONNECTION_BUFFER_SIZE];   // Current request line
+        private int lineLength;
+        private boolean skipping;        // The current line was too long and is being skipped
+        private ByteBuffer output = ByteBuffer.allocate(INITIAL_CONNECTION_BUFFER_SIZE);   // Pending responses
+        private boolean endOfInput;      // Close once the pending responses are written
+        private boolean open = true;
+
+        /**
+         * Parameterized constructor
+         *
+         * @param channel The connected channel
+         */
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Read what the client sent and answer every complete request line
+         * Algorithm:
+         * 1. Read into the loop's buffer; at end of input answer a final line
+         *    without terminator and close once the responses are written
+         * 2. Copy bytes into the line buffer until "\n", then answer the line
+         * 3. If a line grows past the maximum request length, answer ERR and skip
+         *    the rest of it
+         * 4. Write the responses (see flush)
+         *
+         * Time Complexity: O(b) plus the requests, where b is the number of bytes read
+         *
+         * @param buffer The loop's read buffer
+         * @throws IOException if reading or writing fails
+         */
+        void read(ByteBuffer buffer) throws IOException {
+            buffer.clear();
+            int count = channel.read(buffer);
+            if (count < 0) {
+                if (lineLength > 0) {
+                    answer();
+                }
+                endOfInput = true;
+                flush();
+                return;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < count; i++) {
+                byte b = bytes[i];
+                if (b == '\n') {
+                    if (skipping) {
+                        skipping = false;
+                    } else {
+                        answer();
+                    }
+                } else if (!skipping) {
+                    if (lineLength == maxRequestLength) {
+                        respond("ERR Request longer than " + maxRequestLength + " bytes");
+                        lineLength = 0;
+                        skipping = true;
+                    } else {
+                        if (lineLength == line.length) {
+                            line = Arrays.copyOf(line, Math.min(line.length * 2, maxRequestLength));
+                        }
+                        line[lineLength++] = b;
+                    }
+                }
+            }
+            flush();
+        }
+
+        /**
+         * Answer the request line in the line buffer and empty it
+         */
+        private void answer() {
+            int length = lineLength;
+            if (length > 0 && line[length - 1] == '\r') {
+                length--;
+            }
+            lineLength = 0;
+            respond(handleRequest(new String(line, 0, length, StandardCharsets.UTF_8)));
+        }
+
+        /**
+         * Append a response line to the pending responses
+         *
+         * @param response The response, without the line terminator
+         */
+        private void respond(String response) {
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            if (output.remaining() < bytes.length + 1) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(output.capacity() * 2,
+                        output.position() + bytes.length + 1));
+                output.flip();
+                larger.put(output);
+                output = larger;
+            }
+            output.put(bytes).put((byte) '\n');
+        }
+
+        /**
+         * Write as much of the pending responses as the socket takes
+         * If some are left, wait until the socket is writable and stop reading
+         * requests meanwhile; once everything is written, read again (or close the
+         * connection after end of input)
+         *
+         * @throws IOException if writing fails
+         */
+        void flush() throws IOException {
+            output.flip();
+            channel.write(output);
+            output.compact();
+            if (output.position() > 0) {
+                key.interestOps(SelectionKey.OP_WRITE);
+            } else if (endOfInput) {
+                close();
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        /**
+         * Close the connection (once)
+         */
+        void close() {
+            if (!open) {
+                return;
+            }
+            open = false;
+            activeConnections.decrementAndGet();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Already unusable
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+/**
+ * EvaluationTraceListener interface - receives the steps of a postfix evaluation
+ * Converter runs the evaluation algorithm once and reports every processed token to
+ * a listener, so printing the step-by-step table is a matter of choosing the listener:
+ * NoOpTraceListener (nothing), ConsoleTableTraceListener (the PDF table),
+ * TableRenderer (the PDF table, buffered, for large traces) or
+ * CollectingTraceListener (rows kept in memory).
+ *
+ * The symbol and stack arguments are live views of the evaluator's state and are
+ * only valid during the call; copy them if they need to be kept.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public interface EvaluationTraceListener {
+
+    /**
+     * Called once before the first token is processed
+     *
+     * @param postfixExpression The postfix expression being evaluated
+     */
+    default void onEvaluationStart(String postfixExpression) {
+    }
+
+    /**
+     * Called after an operand has been pushed
+     * (a row with empty Operand1 / Operand2 / Value columns)
+     *
+     * @param symbol The operand token
+     * @param value The numeric value pushed
+     * @param operandStack The operand stack after the push
+     */
+    void onOperand(CharSequence symbol, double value, DoubleStack operandStack);
+
+    /**
+     * Called after an operator or function has been applied and its value pushed
+     *
+     * @param operator The operator symbol or function code (see OperatorRegistry.getName)
+     * @param operand1 The first (left) operand, or the argument of a one-argument function
+     * @param operand2 The second (right) operand; NaN for a one-argument function, whose
+     *                 rows are recognized by OperatorRegistry.getArity(operator) == 1
+     * @param value The result of the operation
+     * @param operandStack The operand stack after the result was pushed
+     */
+    void onOperator(char operator, double operand1, double operand2, double value, DoubleStack operandStack);
+
+    /**
+     * Called every time a value is pushed onto the operand stack
+     * Together with onOperandPop this lets a listener keep its own copy of the
+     * stack up to date in O(1) per step instead of copying operandStack per row
+     *
+     * @param value The value pushed
+     */
+    default void onOperandPush(double value) {
+    }
+
+    /**
+     * Called every time a value is popped from the operand stack
+     *
+     * @param value The value popped
+     */
+    default void onOperandPop(double value) {
+    }
+
+    /**
+     * Called once with the final result
+     *
+     * @param result The value of the expression
+     */
+    default void onEvaluationFinish(double result) {
+    }
+}
\ No newline at end of file
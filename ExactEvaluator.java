@@ -0,0 +1,414 @@
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * ExactEvaluator class - evaluates postfix expressions without rounding errors
+ *
+ * Converter.evaluatePostfix works in double, so large integer results lose digits.
+ * This evaluator works in long while every literal is an integer and every
+ * intermediate result is an exact integer that fits in a long: +, - and * use the
+ * Math.*Exact methods to detect overflow and ^ uses exponentiation by squaring.
+ * As soon as a step cannot be done exactly in long (overflow, a division with a
+ * remainder, a negative exponent or a decimal literal) the current stack is moved
+ * to BigDecimal and evaluation continues from that step, so only expressions that
+ * need it pay for BigDecimal.
+ *
+ * BigDecimal +, -, * and positive integer powers are exact. Divisions that do not
+ * terminate and negative powers are rounded to the MathContext given to the
+ * constructor (DECIMAL128 by default). Fractional powers have no exact form and are
+ * computed in double.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class ExactEvaluator {
+
+    // Initial operand stack size (grows as needed)
+    private static final int INITIAL_STACK_SIZE = 16;
+
+    // Largest exact power (in digits) computed without the MathContext
+    private static final long MAX_EXACT_POWER_DIGITS = 100_000;
+
+    // Instance variables
+    private final MathContext mathContext;   // Rounding for inexact BigDecimal operations
+
+    /**
+     * Default constructor
+     * Rounds inexact results to 34 significant digits (MathContext.DECIMAL128)
+     */
+    public ExactEvaluator() {
+        this(MathContext.DECIMAL128);
+    }
+
+    /**
+     * Parameterized constructor
+     *
+     * @param mathContext Rounding used for non-terminating divisions and
+     *                    negative or fractional powers
+     */
+    public ExactEvaluator(MathContext mathContext) {
+        this.mathContext = mathContext;
+    }
+
+    /**
+     * Evaluate an infix expression exactly
+     *
+     * @param infixExpression The infix expression
+     * @return A Long or a BigDecimal (see evaluate)
+     * @throws RuntimeException if the expression is invalid or divides by zero
+     */
+    public Number evaluateInfix(String infixExpression) {
+        return evaluate(Converter.convertInfixToPostfix(infixExpression));
+    }
+
+    /**
+     * Evaluate a postfix expression exactly
+     * Algorithm:
+     * 1. Push integer literals on a long stack
+     * 2. For each operator pop two operands and compute the result in long,
+     *    checking for overflow, remainders and negative exponents
+     * 3. If a literal or a step cannot be handled exactly in long, copy the stack
+     *    to BigDecimal and finish the evaluation there (see evaluateDecimal)
+     * 4. The single value left on the stack is the result
+     * Calls are recorded in ConverterMetrics.EXACT_EVALUATION when metrics are enabled
+     *
+     * Time Complexity: O(n) in long; BigDecimal steps cost more
+     * Space Complexity: O(n)
+     *
+     * @param postfixExpression The postfix expression to evaluate (space-separated)
+     * @return A Long if every step was an exact long operation, otherwise a BigDecimal
+     * @throws RuntimeException if the expression is malformed or divides by zero
+     */
+    public Number evaluate(String postfixExpression) {
+        ExpressionTokenizer tokenizer = new ExpressionTokenizer(postfixExpression);
+        if (!ConverterMetrics.ENABLED) {
+            return evaluate(tokenizer);
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Number value = evaluate(tokenizer);
+            failed = false;
+            return value;
+        } finally {
+            ConverterMetrics.EXACT_EVALUATION.record(start, tokenizer.getTokenCount(), failed);
+        }
+    }
+
+    /**
+     * Evaluate the tokens of a postfix expression exactly (see evaluate(String))
+     *
+     * @param tokenizer Tokenizer positioned at the start of the expression
+     * @return A Long or a BigDecimal
+     * @throws RuntimeException if the expression is malformed or divides by zero
+     */
+    private Number evaluate(ExpressionTokenizer tokenizer) {
+        long[] stack = new long[INITIAL_STACK_SIZE];
+        int sp = 0;
+
+        int kind;
+        while ((kind = tokenizer.next()) != ExpressionTokenizer.END) {
+            if (kind == ExpressionTokenizer.NUMBER) {
+                if (!isIntegerLiteral(tokenizer)) {
+                    return evaluateDecimal(tokenizer, kind, toDecimals(stack, sp), sp);
+                }
+                long value;
+                try {
+                    value = Long.parseLong(tokenizer.getInput(), tokenizer.getTokenStart(),
+                            tokenizer.getTokenEnd(), 10);
+                } catch (NumberFormatException e) {
+                    // Too many digits for a long
+                    return evaluateDecimal(tokenizer, kind, toDecimals(stack, sp), sp);
+                }
+                if (sp == stack.length) {
+                    stack = grow(stack);
+                }
+                stack[sp++] = value;
+            } else if (kind == ExpressionTokenizer.OPERATOR) {
+                char operator = tokenizer.getSymbol();
+                if (sp < 2) {
+                    throw new RuntimeException("Not enough operands for operator: " + operator);
+                }
+                long operand1 = stack[sp - 2];
+                long operand2 = stack[sp - 1];
+                long value;
+                try {
+                    value = exactOperation(operand1, operand2, operator);
+                } catch (ArithmeticException e) {
+                    // Overflow, remainder or negative exponent: continue in BigDecimal
+                    return evaluateDecimal(tokenizer, kind, toDecimals(stack, sp), sp);
+                }
+                sp--;
+                stack[sp - 1] = value;
+            } else {
+                throw invalidToken(tokenizer, kind);
+            }
+        }
+
+        checkSingleResult(sp);
+        return stack[0];
+    }
+
+    /**
+     * Apply an operator to two longs exactly
+     *
+     * @param operand1 First operand
+     * @param operand2 Second operand
+     * @param operator The operator
+     * @return The exact result
+     * @throws ArithmeticException if the result is not an exact long
+     * @throws RuntimeException on division by zero
+     */
+    private static long exactOperation(long operand1, long operand2, char operator) {
+        switch (operator) {
+            case '+':
+                return Math.addExact(operand1, operand2);
+            case '-':
+                return Math.subtractExact(operand1, operand2);
+            case '*':
+                return Math.multiplyExact(operand1, operand2);
+            case '/':
+                if (operand2 == 0) {
+                    throw new RuntimeException("Division by zero");
+                }
+                if (operand1 % operand2 != 0 || (operand1 == Long.MIN_VALUE && operand2 == -1)) {
+                    throw new ArithmeticException("Inexact division");
+                }
+                return operand1 / operand2;
+            case '^':
+                return powExact(operand1, operand2);
+            default:
+                throw new RuntimeException("Invalid operator: " + operator);
+        }
+    }
+
+    /**
+     * Raise a long to a non-negative long power by repeated squaring
+     * Algorithm:
+     * 1. While the exponent is not zero, multiply the result by the base if the
+     *    lowest exponent bit is set
+     * 2. Square the base and shift the exponent right
+     *
+     * Time Complexity: O(log exponent)
+     * Space Complexity: O(1)
+     *
+     * @param base The base
+     * @param exponent The exponent
+     * @return base^exponent
+     * @throws ArithmeticException if the exponent is negative or the result overflows
+     */
+    static long powExact(long base, long exponent) {
+        if (exponent < 0) {
+            throw new ArithmeticException("Negative exponent");
+        }
+        if (base == 0 || base == 1) {
+            return exponent == 0 ? 1 : base;
+        }
+        if (base == -1) {
+            return (exponent & 1) == 0 ? 1 : -1;
+        }
+
+        long result = 1;
+        while (true) {
+            if ((exponent & 1) != 0) {
+                result = Math.multiplyExact(result, base);
+            }
+            exponent >>>= 1;
+            if (exponent == 0) {
+                return result;
+            }
+            base = Math.multiplyExact(base, base);
+        }
+    }
+
+    /**
+     * Continue an evaluation in BigDecimal, starting with the current token
+     *
+     * @param tokenizer Tokenizer positioned at the token that could not be done in long
+     * @param kind Kind of the current token
+     * @param stack Operand stack converted to BigDecimal
+     * @param sp Number of operands on the stack
+     * @return The result
+     * @throws RuntimeException if the expression is malformed or divides by zero
+     */
+    private BigDecimal evaluateDecimal(ExpressionTokenizer tokenizer, int kind, BigDecimal[] stack, int sp) {
+        do {
+            if (kind == ExpressionTokenizer.NUMBER) {
+                if (sp == stack.length) {
+                    BigDecimal[] larger = new BigDecimal[stack.length * 2];
+                    System.arraycopy(stack, 0, larger, 0, sp);
+                    stack = larger;
+                }
+                stack[sp++] = new BigDecimal(tokenizer.getTokenText().toString());
+            } else if (kind == ExpressionTokenizer.OPERATOR) {
+                char operator = tokenizer.getSymbol();
+                if (sp < 2) {
+                    throw new RuntimeException("Not enough operands for operator: " + operator);
+                }
+                sp--;
+                stack[sp - 1] = decimalOperation(stack[sp - 1], stack[sp], operator);
+                stack[sp] = null;
+            } else {
+                throw invalidToken(tokenizer, kind);
+            }
+        } while ((kind = tokenizer.next()) != ExpressionTokenizer.END);
+
+        checkSingleResult(sp);
+        return stack[0];
+    }
+
+    /**
+     * Apply an operator to two BigDecimals
+     *
+     * @param operand1 First operand
+     * @param operand2 Second operand
+     * @param operator The operator
+     * @return The result, exact where possible and otherwise rounded to the MathContext
+     * @throws RuntimeException on division by zero or an unusable exponent
+     */
+    private BigDecimal decimalOperation(BigDecimal operand1, BigDecimal operand2, char operator) {
+        switch (operator) {
+            case '+':
+                return operand1.add(operand2);
+            case '-':
+                return operand1.subtract(operand2);
+            case '*':
+                return operand1.multiply(operand2);
+            case '/':
+                if (operand2.signum() == 0) {
+                    throw new RuntimeException("Division by zero");
+                }
+                try {
+                    return operand1.divide(operand2);
+                } catch (ArithmeticException e) {
+                    // Non-terminating decimal expansion
+                    return operand1.divide(operand2, mathContext);
+                }
+            case '^':
+                return power(operand1, operand2);
+            default:
+                throw new RuntimeException("Invalid operator: " + operator);
+        }
+    }
+
+    /**
+     * Raise a BigDecimal to a power
+     * Non-negative integer exponents are exact unless the result would be huge;
+     * negative integer exponents are rounded to the MathContext; fractional
+     * exponents are computed with Math.pow, so they only have double precision
+     *
+     * @param base The base
+     * @param exponent The exponent
+     * @return base^exponent
+     * @throws RuntimeException if the exponent is too large or the result is undefined
+     */
+    private BigDecimal power(BigDecimal base, BigDecimal exponent) {
+        int n;
+        try {
+            n = exponent.intValueExact();
+        } catch (ArithmeticException e) {
+            if (exponent.stripTrailingZeros().scale() <= 0) {
+                throw new RuntimeException("Exponent too large: " + exponent);
+            }
+            double value = Math.pow(base.doubleValue(), exponent.doubleValue());
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                throw new RuntimeException("Result is not a finite number: " + base + " ^ " + exponent);
+            }
+            return BigDecimal.valueOf(value).round(mathContext);
+        }
+
+        if (n < 0) {
+            if (base.signum() == 0) {
+                throw new RuntimeException("Division by zero");
+            }
+            return base.pow(n, mathContext);
+        }
+        if ((long) base.precision() * n > MAX_EXACT_POWER_DIGITS) {
+            if (mathContext.getPrecision() == 0) {
+                throw new RuntimeException("Result too large: " + base + " ^ " + n);
+            }
+            return base.pow(n, mathContext);
+        }
+        return base.pow(n);
+    }
+
+    /**
+     * Check whether the current NUMBER token has no decimal point
+     *
+     * @param tokenizer Tokenizer positioned at a NUMBER token
+     * @return true for integer literals
+     */
+    private static boolean isIntegerLiteral(ExpressionTokenizer tokenizer) {
+        CharSequence input = tokenizer.getInput();
+        for (int i = tokenizer.getTokenStart(); i < tokenizer.getTokenEnd(); i++) {
+            if (input.charAt(i) == '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copy a long operand stack to a BigDecimal stack with room for one more push
+     *
+     * @param stack The long stack
+     * @param sp Number of operands on it
+     * @return The BigDecimal stack
+     */
+    private static BigDecimal[] toDecimals(long[] stack, int sp) {
+        BigDecimal[] decimals = new BigDecimal[Math.max(INITIAL_STACK_SIZE, sp + 1)];
+        for (int i = 0; i < sp; i++) {
+            decimals[i] = BigDecimal.valueOf(stack[i]);
+        }
+        return decimals;
+    }
+
+    /**
+     * Double the size of a long stack
+     *
+     * @param stack The stack
+     * @return A copy twice as large
+     */
+    private static long[] grow(long[] stack) {
+        long[] larger = new long[stack.length * 2];
+        System.arraycopy(stack, 0, larger, 0, stack.length);
+        return larger;
+    }
+
+    /**
+     * Build the exception for a token that is neither a number nor an operator
+     *
+     * @param tokenizer Tokenizer positioned at the token
+     * @param kind Kind of the token
+     * @return The exception to throw
+     */
+    private static RuntimeException invalidToken(ExpressionTokenizer tokenizer, int kind) {
+        if (kind == ExpressionTokenizer.IDENTIFIER) {
+            return new RuntimeException("Invalid operand: " + tokenizer.getTokenText());
+        }
+        return new RuntimeException("Invalid token: " + tokenizer.getTokenText());
+    }
+
+    /**
+     * Check that exactly one value is left at the end of the evaluation
+     *
+     * @param sp Number of values on the stack
+     * @throws RuntimeException otherwise
+     */
+    private static void checkSingleResult(int sp) {
+        if (sp != 1) {
+            throw new RuntimeException("Invalid postfix expression: " + sp + " values left on the stack");
+        }
+    }
+
+    /**
+     * Get the MathContext used for inexact results
+     *
+     * @return The MathContext
+     */
+    public MathContext getMathContext() {
+        return mathContext;
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * ExpressionFunction interface - an expression evaluated as a plain Java method
+ * Implemented by the classes ExpressionJit generates for hot compiled expressions.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public interface ExpressionFunction {
+
+    /**
+     * Evaluate the expression
+     *
+     * @param bindings Variable values indexed by slot (see CompiledExpression.getVariable)
+     * @return The value of the expression
+     * @throws RuntimeException on division by zero
+     */
+    double applyAsDouble(double[] bindings);
+}
\ No newline at end of file
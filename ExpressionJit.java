@@ -0,0 +1,430 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+
+/**
+ * ExpressionJit class - compiles a CompiledExpression to JVM bytecode
+ * The postfix program maps directly onto the JVM operand stack: constants become
+ * ldc2_w, variables become daload from the bindings array, + - * become dadd, dsub
+ * and dmul, ^ calls Math.pow and / calls divide (which keeps the "Division by zero"
+ * check of Converter.performOperation). Temporary slots become local variables.
+ * Programs that call registered operators or functions (OP_CALL) are not compiled
+ * and stay interpreted.
+ * The generated method is straight-line code without branches, so the HotSpot JIT
+ * compiles it like hand-written arithmetic.
+ *
+ * The class is defined as a hidden class (MethodHandles.Lookup.defineHiddenClass),
+ * so it is unloaded together with its ExpressionFunction instance.
+ *
+ * CompiledExpression switches to the generated code automatically once an expression
+ * has been evaluated getThreshold() times (system property converter.jit.threshold,
+ * default 10000; a negative value disables the JIT).
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class ExpressionJit {
+
+    // Largest method body the class file format allows
+    private static final int MAX_CODE_LENGTH = 65535;
+
+    // Name of every generated class (hidden classes get a unique suffix from the JVM)
+    private static final String CLASS_NAME = "ExpressionJitGenerated";
+
+    // Bytecode instructions used by the generator
+    private static final int ICONST_0 = 0x03;
+    private static final int DCONST_0 = 0x0e;
+    private static final int DCONST_1 = 0x0f;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int LDC2_W = 0x14;
+    private static final int DLOAD = 0x18;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int DALOAD = 0x31;
+    private static final int DSTORE = 0x39;
+    private static final int DUP2 = 0x5c;
+    private static final int DADD = 0x63;
+    private static final int DSUB = 0x67;
+    private static final int DMUL = 0x6b;
+    private static final int DRETURN = 0xaf;
+    private static final int RETURN = 0xb1;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int WIDE = 0xc4;
+
+    // Lookup in this package; the generated classes are defined next to this class
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    // Evaluations after which an expression is compiled to bytecode
+    private static volatile int threshold = Integer.getInteger("converter.jit.threshold", 10000);
+
+    /**
+     * Private constructor - static members only
+     */
+    private ExpressionJit() {
+    }
+
+    /**
+     * Get the number of evaluations after which an expression is compiled
+     *
+     * @return The threshold (negative if the JIT is disabled)
+     */
+    public static int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Set the number of evaluations after which an expression is compiled
+     *
+     * @param evaluations The new threshold, or a negative value to disable the JIT
+     */
+    public static void setThreshold(int evaluations) {
+        threshold = evaluations;
+    }
+
+    /**
+     * Division used by the generated code, with the same check as Converter.performOperation
+     *
+     * @param operand1 Dividend
+     * @param operand2 Divisor
+     * @return operand1 / operand2
+     * @throws RuntimeException if operand2 is zero
+     */
+    static double divide(double operand1, double operand2) {
+        if (operand2 == 0) {
+            throw new RuntimeException("Division by zero");
+        }
+        return operand1 / operand2;
+    }
+
+    /**
+     * Compile an expression to a hidden class implementing ExpressionFunction
+     * Algorithm:
+     * 1. Translate every instruction to bytecode, adding constants to the constant pool
+     * 2. Write a class file with a no-argument constructor and applyAsDouble
+     * 3. Define it as a hidden class and create the instance
+     *
+     * @param expression The expression to compile
+     * @return The compiled function
+     * @throws UnsupportedOperationException if the expression is too large for one method
+     *         or calls registered operators or functions
+     * @throws RuntimeException if the class cannot be defined
+     */
+    public static ExpressionFunction compile(CompiledExpression expression) {
+        if (expression.hasCalls()) {
+            throw new UnsupportedOperationException("Cannot compile calls of registered operators or functions");
+        }
+        byte[] classFile = generate(expression);
+        try {
+            MethodHandles.Lookup hidden = LOOKUP.defineHiddenClass(classFile, true);
+            return (ExpressionFunction) hidden.findConstructor(hidden.lookupClass(),
+                    MethodType.methodType(void.class)).invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException("Cannot define generated class: " + t, t);
+        }
+    }
+
+    /**
+     * Generate the class file for an expression
+     *
+     * @param expression The expression to compile
+     * @return The class file bytes
+     */
+    static byte[] generate(CompiledExpression expression) {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(CLASS_NAME);
+        int superClass = pool.classRef("java/lang/Object");
+        int interfaceClass = pool.classRef("ExpressionFunction");
+        int objectInit = pool.methodRef("java/lang/Object", "<init>", "()V");
+        int mathPow = pool.methodRef("java/lang/Math", "pow", "(DD)D");
+        int divide = pool.methodRef("ExpressionJit", "divide", "(DD)D");
+        int initName = pool.utf8("<init>");
+        int initType = pool.utf8("()V");
+        int applyName = pool.utf8("applyAsDouble");
+        int applyType = pool.utf8("([D)D");
+        int codeAttribute = pool.utf8("Code");
+
+        int[] code = expression.getCode();
+        double[] constants = expression.getConstants();
+        Bytecode body = new Bytecode();
+        for (int instruction : code) {
+            int operand = instruction >>> CompiledExpression.OPERAND_SHIFT;
+            switch (instruction & CompiledExpression.OPCODE_MASK) {
+                case CompiledExpression.OP_CONST:
+                    double value = constants[operand];
+                    if (Double.doubleToRawLongBits(value) == 0L) {
+                        body.op(DCONST_0);
+                    } else if (value == 1.0) {
+                        body.op(DCONST_1);
+                    } else {
+                        body.op(LDC2_W).u2(pool.doubleConstant(value));
+                    }
+                    break;
+                case CompiledExpression.OP_LOAD:
+                    body.op(ALOAD_1);
+                    pushInt(body, pool, operand);
+                    body.op(DALOAD);
+                    break;
+                case CompiledExpression.OP_ADD:
+                    body.op(DADD);
+                    break;
+                case CompiledExpression.OP_SUB:
+                    body.op(DSUB);
+                    break;
+                case CompiledExpression.OP_MUL:
+                    body.op(DMUL);
+                    break;
+                case CompiledExpression.OP_DIV:
+                    body.op(INVOKESTATIC).u2(divide);
+                    break;
+                case CompiledExpression.OP_POW:
+                    body.op(INVOKESTATIC).u2(mathPow);
+                    break;
+                case CompiledExpression.OP_STORE_TEMP:
+                    body.op(DUP2);
+                    localVariable(body, DSTORE, 2 + 2 * operand);
+                    break;
+                case CompiledExpression.OP_LOAD_TEMP:
+                    localVariable(body, DLOAD, 2 + 2 * operand);
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Cannot compile instruction: " + instruction);
+            }
+        }
+        body.op(DRETURN);
+
+        if (body.size() > MAX_CODE_LENGTH) {
+            throw new UnsupportedOperationException("Expression too large to compile: "
+                    + body.size() + " bytes of bytecode");
+        }
+        int maxStack = 2 * expression.getMaxStackDepth() + 2;
+        int maxLocals = 2 + 2 * expression.getTempCount();
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.size() + pool.size() * 8 + 256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);                 // minor version
+            out.writeShort(61);                // major version (Java 17)
+            pool.writeTo(out);
+            out.writeShort(0x0031);            // ACC_PUBLIC | ACC_FINAL | ACC_SUPER
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);                 // interfaces
+            out.writeShort(interfaceClass);
+            out.writeShort(0);                 // fields
+            out.writeShort(2);                 // methods
+
+            Bytecode constructor = new Bytecode();
+            constructor.op(ALOAD_0).op(INVOKESPECIAL).u2(objectInit).op(RETURN);
+            writeMethod(out, initName, initType, codeAttribute, 1, 1, constructor);
+            writeMethod(out, applyName, applyType, codeAttribute, maxStack, maxLocals, body);
+
+            out.writeShort(0);                 // class attributes
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Emit the shortest instruction that pushes an int constant
+     *
+     * @param body Bytecode being built
+     * @param pool Constant pool
+     * @param value Value to push
+     */
+    private static void pushInt(Bytecode body, ConstantPool pool, int value) {
+        if (value <= 5) {
+            body.op(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            body.op(BIPUSH).u1(value);
+        } else if (value <= Short.MAX_VALUE) {
+            body.op(SIPUSH).u2(value);
+        } else {
+            body.op(LDC_W).u2(pool.intConstant(value));
+        }
+    }
+
+    /**
+     * Emit a load or store of a local variable, using the wide form above index 255
+     *
+     * @param body Bytecode being built
+     * @param opcode DLOAD or DSTORE
+     * @param index Local variable index
+     */
+    private static void localVariable(Bytecode body, int opcode, int index) {
+        if (index <= 0xFF) {
+            body.op(opcode).u1(index);
+        } else {
+            body.op(WIDE).op(opcode).u2(index);
+        }
+    }
+
+    /**
+     * Write a method_info structure with a Code attribute
+     *
+     * @param out Class file output
+     * @param name Constant pool index of the method name
+     * @param descriptor Constant pool index of the descriptor
+     * @param codeAttribute Constant pool index of "Code"
+     * @param maxStack Operand stack size in slots
+     * @param maxLocals Local variable count in slots
+     * @param code The method body
+     * @throws IOException never for a byte array stream
+     */
+    private static void writeMethod(DataOutputStream out, int name, int descriptor, int codeAttribute,
+                                    int maxStack, int maxLocals, Bytecode code) throws IOException {
+        out.writeShort(0x0001);                // ACC_PUBLIC
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);                     // attributes
+        out.writeShort(codeAttribute);
+        out.writeInt(12 + code.size());        // attribute length
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.size());
+        code.writeTo(out);
+        out.writeShort(0);                     // exception table
+        out.writeShort(0);                     // code attributes
+    }
+
+    /**
+     * Growable byte buffer for method bodies
+     */
+    private static final class Bytecode {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        Bytecode op(int opcode) {
+            return u1(opcode);
+        }
+
+        Bytecode u1(int value) {
+            if (size == bytes.length) {
+                byte[] larger = new byte[bytes.length * 2];
+                System.arraycopy(bytes, 0, larger, 0, size);
+                bytes = larger;
+            }
+            bytes[size++] = (byte) value;
+            return this;
+        }
+
+        Bytecode u2(int value) {
+            return u1(value >>> 8).u1(value);
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.write(bytes, 0, size);
+        }
+    }
+
+    /**
+     * Class file constant pool with de-duplication of entries
+     */
+    private static final class ConstantPool {
+        private static final int UTF8 = 1;
+        private static final int INTEGER = 3;
+        private static final int DOUBLE = 6;
+        private static final int CLASS = 7;
+        private static final int METHOD_REF = 10;
+        private static final int NAME_AND_TYPE = 12;
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final HashMap<Object, Integer> indexes = new HashMap<>();
+        private int nextIndex = 1;
+
+        int utf8(String value) {
+            return entry("U" + value, 1, () -> {
+                out.writeByte(UTF8);
+                out.writeUTF(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int name = utf8(internalName);
+            return entry("C" + internalName, 1, () -> {
+                out.writeByte(CLASS);
+                out.writeShort(name);
+            });
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            int ownerClass = classRef(owner);
+            int nameIndex = utf8(name);
+            int typeIndex = utf8(descriptor);
+            int nameAndType = entry("N" + name + descriptor, 1, () -> {
+                out.writeByte(NAME_AND_TYPE);
+                out.writeShort(nameIndex);
+                out.writeShort(typeIndex);
+            });
+            return entry("M" + owner + "." + name + descriptor, 1, () -> {
+                out.writeByte(METHOD_REF);
+                out.writeShort(ownerClass);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        int intConstant(int value) {
+            return entry("I" + value, 1, () -> {
+                out.writeByte(INTEGER);
+                out.writeInt(value);
+            });
+        }
+
+        int doubleConstant(double value) {
+            long bits = Double.doubleToRawLongBits(value);
+            return entry("D" + bits, 2, () -> {
+                out.writeByte(DOUBLE);
+                out.writeLong(bits);
+            });
+        }
+
+        int size() {
+            return nextIndex;
+        }
+
+        void writeTo(DataOutputStream classFile) throws IOException {
+            if (nextIndex > 0xFFFF) {
+                throw new UnsupportedOperationException("Expression has too many constants to compile");
+            }
+            out.flush();
+            classFile.writeShort(nextIndex);
+            bytes.writeTo(classFile);
+        }
+
+        private int entry(Object key, int slots, EntryWriter writer) {
+            Integer existing = indexes.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            int index = nextIndex;
+            try {
+                writer.write();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            nextIndex += slots;
+            indexes.put(key, index);
+            return index;
+        }
+
+        private interface EntryWriter {
+            void write() throws IOException;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,381 @@
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * ExpressionOptimizer class - simplifies a compiled expression before it is evaluated
+ * The program is rebuilt as a DAG in which identical subexpressions are a single node
+ * (hash-consing), and while the DAG is built:
+ * 1. Operations on two constants are folded with Converter.performOperation
+ *    (operations that would throw, such as division by zero, are left for run time)
+ * 2. Safe identities are applied: x*1, 1*x, x-0, x/1 and x^1 become x (x+0 is
+ *    not one of them, because -0.0 + 0 is 0.0 rather than -0.0)
+ * 3. Subexpressions used more than once are computed once, kept in a temporary
+ *    slot (OP_STORE_TEMP) and reloaded (OP_LOAD_TEMP) wherever else they appear
+ *
+ * Variable slots are unchanged, so the same bindings work for the optimized expression.
+ * Programs that call registered operators or functions (OP_CALL) are returned
+ * unchanged.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class ExpressionOptimizer {
+
+    // Operator characters indexed by opcode - OP_ADD
+    private static final String OPERATORS = "+-*/^";
+
+    // Node storage (node ids are indexes into these arrays)
+    private final int[] kinds;            // OP_CONST, OP_LOAD or a binary opcode
+    private final int[] lefts;            // Left child, or variable slot for OP_LOAD
+    private final int[] rights;           // Right child
+    private final double[] values;        // Value of OP_CONST nodes
+    private int nodeCount;
+
+    // Hash-consing tables
+    private final HashMap<Long, Integer> constantNodes = new HashMap<>();
+    private final HashMap<Long, Integer> operationNodes = new HashMap<>();
+    private final int[] variableNodes;
+
+    // Statistics
+    private int constantsFolded;
+    private int identitiesSimplified;
+
+    /**
+     * Private constructor - use optimize
+     *
+     * @param capacity Maximum number of nodes
+     * @param variableCount Number of variable slots
+     */
+    private ExpressionOptimizer(int capacity, int variableCount) {
+        this.kinds = new int[capacity];
+        this.lefts = new int[capacity];
+        this.rights = new int[capacity];
+        this.values = new double[capacity];
+        this.variableNodes = new int[variableCount];
+        Arrays.fill(variableNodes, -1);
+    }
+
+    /**
+     * Optimize a compiled expression
+     * Algorithm:
+     * 1. Run the program symbolically, building DAG nodes instead of values
+     *    (folding, identities and hash-consing happen as each node is created)
+     * 2. Count how often every reachable operation node is used
+     * 3. Emit the DAG back into postfix order; nodes used more than once are
+     *    stored in a temporary slot the first time and loaded afterwards
+     *
+     * Time Complexity: O(n) expected
+     * Space Complexity: O(n)
+     *
+     * @param expression The expression to optimize
+     * @return The optimized expression and what was removed
+     */
+    public static OptimizationResult optimize(CompiledExpression expression) {
+        int[] code = expression.getCode();
+        if (expression.hasCalls()) {
+            return new OptimizationResult(expression, code.length, 0, 0, 0, 0);
+        }
+        ExpressionOptimizer optimizer = new ExpressionOptimizer(code.length, expression.getVariableCount());
+        int root = optimizer.buildDag(code, expression.getConstants());
+        return optimizer.emit(expression, root);
+    }
+
+    /**
+     * Build the DAG for a program
+     *
+     * @param code The instructions
+     * @param constants The constant pool
+     * @return Id of the root node
+     */
+    private int buildDag(int[] code, double[] constants) {
+        IntStack stack = new IntStack(code.length);
+        int[] tempNodes = new int[code.length];
+
+        for (int instruction : code) {
+            int opcode = instruction & CompiledExpression.OPCODE_MASK;
+            int operand = instruction >>> CompiledExpression.OPERAND_SHIFT;
+            switch (opcode) {
+                case CompiledExpression.OP_CONST:
+                    stack.push(constantNode(constants[operand]));
+                    break;
+                case CompiledExpression.OP_LOAD:
+                    stack.push(variableNode(operand));
+                    break;
+                case CompiledExpression.OP_STORE_TEMP:
+                    tempNodes[operand] = stack.peek();
+                    break;
+                case CompiledExpression.OP_LOAD_TEMP:
+                    stack.push(tempNodes[operand]);
+                    break;
+                default:
+                    int right = stack.pop();
+                    int left = stack.pop();
+                    stack.push(operationNode(opcode, left, right));
+            }
+        }
+        return stack.pop();
+    }
+
+    /**
+     * Get the node for a constant value, creating it if needed
+     *
+     * @param value The constant value
+     * @return Node id
+     */
+    private int constantNode(double value) {
+        Long key = Double.doubleToLongBits(value);
+        Integer existing = constantNodes.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int node = newNode(CompiledExpression.OP_CONST, 0, 0);
+        values[node] = value;
+        constantNodes.put(key, node);
+        return node;
+    }
+
+    /**
+     * Get the node for a variable, creating it if needed
+     *
+     * @param slot The variable slot
+     * @return Node id
+     */
+    private int variableNode(int slot) {
+        if (variableNodes[slot] < 0) {
+            variableNodes[slot] = newNode(CompiledExpression.OP_LOAD, slot, 0);
+        }
+        return variableNodes[slot];
+    }
+
+    /**
+     * Get the node for a binary operation, folding and simplifying where possible
+     *
+     * @param opcode The operation
+     * @param left Left operand node
+     * @param right Right operand node
+     * @return Node id of the operation or of the simpler equivalent node
+     */
+    private int operationNode(int opcode, int left, int right) {
+        if (isConstant(left) && isConstant(right)) {
+            try {
+                double value = Converter.performOperation(values[left], values[right],
+                        OPERATORS.charAt(opcode - CompiledExpression.OP_ADD));
+                constantsFolded++;
+                return constantNode(value);
+            } catch (RuntimeException e) {
+                // Division by zero: keep the operation so it still fails at run time
+            }
+        }
+
+        int simplified = simplify(opcode, left, right);
+        if (simplified >= 0) {
+            identitiesSimplified++;
+            return simplified;
+        }
+
+        Long key = ((long) opcode << 56) | ((long) left << 28) | right;
+        Integer existing = operationNodes.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int node = newNode(opcode, left, right);
+        operationNodes.put(key, node);
+        return node;
+    }
+
+    /**
+     * Apply the identities x*1, 1*x, x-0, x/1 and x^1
+     * Each holds bit for bit for every double x, including -0.0, infinities and NaN;
+     * x+0 and 0+x do not (-0.0 + 0 is 0.0), and neither does x-(-0.0), so the
+     * constants are matched exactly rather than with ==
+     *
+     * @param opcode The operation
+     * @param left Left operand node
+     * @param right Right operand node
+     * @return The node equivalent to the operation, or -1 if no identity applies
+     */
+    private int simplify(int opcode, int left, int right) {
+        switch (opcode) {
+            case CompiledExpression.OP_MUL:
+                if (isConstant(right, 1)) {
+                    return left;
+                }
+                return isConstant(left, 1) ? right : -1;
+            case CompiledExpression.OP_SUB:
+                return isConstant(right, 0) ? left : -1;
+            case CompiledExpression.OP_DIV:
+            case CompiledExpression.OP_POW:
+                return isConstant(right, 1) ? left : -1;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Emit the DAG as an optimized program
+     *
+     * @param original The expression being optimized
+     * @param root Root node id
+     * @return The optimization result
+     */
+    private OptimizationResult emit(CompiledExpression original, int root) {
+        // Count the uses of every node reachable from the root
+        int[] uses = new int[nodeCount];
+        boolean[] visited = new boolean[nodeCount];
+        IntStack work = new IntStack();
+        work.push(root);
+        visited[root] = true;
+        while (!work.isEmpty()) {
+            int node = work.pop();
+            if (isOperation(node)) {
+                countUse(lefts[node], uses, visited, work);
+                countUse(rights[node], uses, visited, work);
+            }
+        }
+
+        // Emit in postfix order; work entries are node << 1 | (1 if children are done)
+        int[] code = new int[original.getInstructionCount()];
+        double[] constants = new double[nodeCount];
+        int[] constantIndex = new int[nodeCount];
+        int[] tempSlot = new int[nodeCount];
+        Arrays.fill(constantIndex, -1);
+        Arrays.fill(tempSlot, -1);
+        int codeLength = 0;
+        int constantCount = 0;
+        int tempCount = 0;
+        int reuses = 0;
+        int depth = 0;
+        int maxDepth = 0;
+
+        work.push(root << 1);
+        while (!work.isEmpty()) {
+            int entry = work.pop();
+            int node = entry >>> 1;
+            int instruction;
+
+            if ((entry & 1) == 1) {
+                instruction = kinds[node];
+                depth--;
+            } else if (tempSlot[node] >= 0) {
+                instruction = (tempSlot[node] << CompiledExpression.OPERAND_SHIFT) | CompiledExpression.OP_LOAD_TEMP;
+                reuses++;
+                depth++;
+            } else if (kinds[node] == CompiledExpression.OP_CONST) {
+                if (constantIndex[node] < 0) {
+                    constants[constantCount] = values[node];
+                    constantIndex[node] = constantCount++;
+                }
+                instruction = (constantIndex[node] << CompiledExpression.OPERAND_SHIFT) | CompiledExpression.OP_CONST;
+                depth++;
+            } else if (kinds[node] == CompiledExpression.OP_LOAD) {
+                instruction = (lefts[node] << CompiledExpression.OPERAND_SHIFT) | CompiledExpression.OP_LOAD;
+                depth++;
+            } else {
+                work.push((node << 1) | 1);
+                work.push(rights[node] << 1);
+                work.push(lefts[node] << 1);
+                continue;
+            }
+
+            code = ensureCapacity(code, codeLength + 2);
+            code[codeLength++] = instruction;
+            maxDepth = Math.max(maxDepth, depth);
+
+            if ((entry & 1) == 1 && uses[node] > 1) {
+                tempSlot[node] = tempCount++;
+                code[codeLength++] = (tempSlot[node] << CompiledExpression.OPERAND_SHIFT)
+                        | CompiledExpression.OP_STORE_TEMP;
+            }
+        }
+
+        int[] program = new int[codeLength];
+        System.arraycopy(code, 0, program, 0, codeLength);
+        double[] constantPool = new double[constantCount];
+        System.arraycopy(constants, 0, constantPool, 0, constantCount);
+        CompiledExpression optimized = new CompiledExpression(original.getPostfix(), program, constantPool,
+                original.getVariables(), maxDepth, tempCount);
+        return new OptimizationResult(optimized, original.getInstructionCount(), constantsFolded,
+                identitiesSimplified, tempCount, reuses);
+    }
+
+    /**
+     * Record one use of a child node and schedule it for visiting the first time
+     *
+     * @param child Child node id
+     * @param uses Use counts
+     * @param visited Visited flags
+     * @param work Nodes still to visit
+     */
+    private static void countUse(int child, int[] uses, boolean[] visited, IntStack work) {
+        uses[child]++;
+        if (!visited[child]) {
+            visited[child] = true;
+            work.push(child);
+        }
+    }
+
+    /**
+     * Allocate a new node
+     *
+     * @param kind Node kind (opcode)
+     * @param left Left child or variable slot
+     * @param right Right child
+     * @return Node id
+     */
+    private int newNode(int kind, int left, int right) {
+        int node = nodeCount++;
+        kinds[node] = kind;
+        lefts[node] = left;
+        rights[node] = right;
+        return node;
+    }
+
+    /**
+     * Check whether a node is a constant
+     *
+     * @param node Node id
+     * @return true for OP_CONST nodes
+     */
+    private boolean isConstant(int node) {
+        return kinds[node] == CompiledExpression.OP_CONST;
+    }
+
+    /**
+     * Check whether a node is a constant with the given value
+     * Values are compared with Double.compare, so 0.0 and -0.0 are different
+     *
+     * @param node Node id
+     * @param value Value to compare with
+     * @return true if the node is that constant
+     */
+    private boolean isConstant(int node, double value) {
+        return kinds[node] == CompiledExpression.OP_CONST && Double.compare(values[node], value) == 0;
+    }
+
+    /**
+     * Check whether a node is a binary operation
+     *
+     * @param node Node id
+     * @return true unless the node is a constant or a variable
+     */
+    private boolean isOperation(int node) {
+        return kinds[node] != CompiledExpression.OP_CONST && kinds[node] != CompiledExpression.OP_LOAD;
+    }
+
+    /**
+     * Grow an instruction array if needed
+     *
+     * @param code The array
+     * @param required Required length
+     * @return The array, or a larger copy
+     */
+    private static int[] ensureCapacity(int[] code, int required) {
+        if (required <= code.length) {
+            return code;
+        }
+        int[] larger = new int[Math.max(required, code.length * 2)];
+        System.arraycopy(code, 0, larger, 0, code.length);
+        return larger;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+/**
+ * ExpressionResult class - the outcome of a single-pass conversion or evaluation
+ * Either the result (a postfix expression or a value) or the first error found,
+ * with the offset of the offending token in the input and the reason. Returned by
+ * Converter.tryConvertInfixToPostfix and Converter.tryEvaluatePostfix, which report
+ * invalid input this way instead of throwing.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class ExpressionResult {
+
+    // Instance variables
+    private final String postfix;        // Postfix expression of a successful conversion
+    private final double value;          // Value of a successful evaluation
+    private final int errorOffset;       // Offset of the offending token, -1 if successful
+    private final String errorReason;    // Why the input was rejected, null if successful
+
+    /**
+     * Private constructor - use the factory methods
+     *
+     * @param postfix Postfix expression, or null
+     * @param value Value
+     * @param errorOffset Error offset, or -1
+     * @param errorReason Error reason, or null
+     */
+    private ExpressionResult(String postfix, double value, int errorOffset, String errorReason) {
+        this.postfix = postfix;
+        this.value = value;
+        this.errorOffset = errorOffset;
+        this.errorReason = errorReason;
+    }
+
+    /**
+     * Create the result of a successful conversion
+     *
+     * @param postfix The postfix expression
+     * @return The result
+     */
+    static ExpressionResult converted(String postfix) {
+        return new ExpressionResult(postfix, Double.NaN, -1, null);
+    }
+
+    /**
+     * Create the result of a successful evaluation
+     *
+     * @param value The value of the expression
+     * @return The result
+     */
+    static ExpressionResult evaluated(double value) {
+        return new ExpressionResult(null, value, -1, null);
+    }
+
+    /**
+     * Create the result of rejected input
+     *
+     * @param offset Offset of the offending token (the input length if input ended too early)
+     * @param reason Why the input was rejected
+     * @return The result
+     */
+    static ExpressionResult error(int offset, String reason) {
+        return new ExpressionResult(null, Double.NaN, offset, reason);
+    }
+
+    /**
+     * Check whether the input was accepted
+     *
+     * @return true if there is a result, false if there is an error
+     */
+    public boolean isValid() {
+        return errorReason == null;
+    }
+
+    /**
+     * Get the postfix expression of a successful conversion
+     *
+     * @return The postfix expression
+     * @throws RuntimeException if this is not a successful conversion
+     */
+    public String getPostfix() {
+        if (postfix == null) {
+            throw new RuntimeException(isValid() ? "Not a conversion result" : getErrorMessage());
+        }
+        return postfix;
+    }
+
+    /**
+     * Get the value of a successful evaluation
+     *
+     * @return The value
+     * @throws RuntimeException if this is not a successful evaluation
+     */
+    public double getValue() {
+        if (!isValid() || postfix != null) {
+            throw new RuntimeException(isValid() ? "Not an evaluation result" : getErrorMessage());
+        }
+        return value;
+    }
+
+    /**
+     * Get the offset of the offending token in the input
+     *
+     * @return Offset, or -1 if the input was accepted
+     */
+    public int getErrorOffset() {
+        return errorOffset;
+    }
+
+    /**
+     * Get the reason the input was rejected
+     *
+     * @return Reason, or null if the input was accepted
+     */
+    public String getErrorReason() {
+        return errorReason;
+    }
+
+    /**
+     * Get the reason together with the offset, e.g. "Unmatched ')' at position 4"
+     *
+     * @return Error message, or null if the input was accepted
+     */
+    public String getErrorMessage() {
+        return isValid() ? null : errorReason + " at position " + errorOffset;
+    }
+
+    /**
+     * toString method to display the result or the error
+     *
+     * @return The postfix expression, the formatted value, or "ERROR: " and the message
+     */
+    @Override
+    public String toString() {
+        if (!isValid()) {
+            return "ERROR: " + getErrorMessage();
+        }
+        return postfix != null ? postfix : Converter.formatValue(value);
+    }
+}
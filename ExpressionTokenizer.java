@@ -0,0 +1,327 @@
+import java.nio.CharBuffer;
+
+/**
+ * ExpressionTokenizer class - splits an expression into tokens without creating substrings
+ * The tokenizer keeps a cursor into a CharSequence and reports one token at a time:
+ * its kind, its start and end offsets and, for numbers, its value parsed in place.
+ * Multi-digit integers, decimals (such as 12.75) and identifiers (a letter followed by
+ * letters or digits) are supported, and whitespace between tokens is optional.
+ *
+ * Usage:
+ *   tokenizer.reset(expression);
+ *   for (int kind = tokenizer.next(); kind != ExpressionTokenizer.END; kind = tokenizer.next()) { ... }
+ *
+ * A tokenizer can be reset and reused, so a caller that keeps one needs no allocation per token.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class ExpressionTokenizer {
+
+    // Token kinds
+    public static final int END = 0;            // No more tokens
+    public static final int NUMBER = 1;         // Integer or decimal literal, see getNumberValue
+    public static final int IDENTIFIER = 2;     // Variable name such as A or rate2
+    public static final int OPERATOR = 3;       // A registered operator such as + - * / ^, see getSymbol
+    public static final int LEFT_PAREN = 4;     // (
+    public static final int RIGHT_PAREN = 5;    // )
+    public static final int INVALID = 6;        // Any other character, see getSymbol
+    public static final int COMMA = 7;          // , between function arguments
+    public static final int FUNCTION = 8;       // Registered function name, see getSymbol
+
+    // Largest mantissa and power of ten for which mantissa / 10^n is correctly rounded
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // Instance variables
+    private CharSequence input;        // Expression being tokenized
+    private int position;              // Cursor: index of the next unread character
+    private int limit;                 // Index after the last character to read
+    private int tokenStart;            // Start offset of the current token
+    private int tokenEnd;              // End offset (exclusive) of the current token
+    private double numberValue;        // Value of the current NUMBER token
+    private char symbol;               // First character of the current token
+    private int tokenCount;            // Tokens returned since the last reset (END excluded)
+    private final TokenText tokenText = new TokenText();
+
+    /**
+     * Default constructor
+     * Initializes a tokenizer over an empty input; call reset before use
+     */
+    public ExpressionTokenizer() {
+        reset("");
+    }
+
+    /**
+     * Parameterized constructor
+     *
+     * @param input The expression to tokenize
+     */
+    public ExpressionTokenizer(CharSequence input) {
+        reset(input);
+    }
+
+    /**
+     * Start tokenizing a new expression
+     *
+     * @param input The expression to tokenize
+     */
+    public void reset(CharSequence input) {
+        reset(input, 0, input.length());
+    }
+
+    /**
+     * Start tokenizing part of a character array (the array is wrapped, not copied)
+     *
+     * @param chars Characters of the expression
+     * @param offset Index of the first character
+     * @param length Number of characters
+     */
+    public void reset(char[] chars, int offset, int length) {
+        reset(CharBuffer.wrap(chars), offset, offset + length);
+    }
+
+    /**
+     * Start tokenizing the characters between start and end of the input
+     *
+     * @param input The expression to tokenize
+     * @param start Index of the first character
+     * @param end Index after the last character
+     */
+    public void reset(CharSequence input, int start, int end) {
+        this.input = input;
+        this.position = start;
+        this.limit = end;
+        this.tokenStart = start;
+        this.tokenEnd = start;
+        this.numberValue = 0;
+        this.symbol = 0;
+        this.tokenCount = 0;
+    }
+
+    /**
+     * Advance to the next token
+     * Algorithm:
+     * 1. Skip whitespace
+     * 2. A digit (or '.' followed by a digit) starts a NUMBER; its value is accumulated
+     *    digit by digit while scanning
+     * 3. A letter starts an IDENTIFIER that continues over letters and digits; the
+     *    name of a registered function is a FUNCTION instead
+     * 4. Operators, parentheses and commas are single-character tokens
+     * 5. Anything else is an INVALID token of one character
+     *
+     * Time Complexity: O(length of the token)
+     * Space Complexity: O(1)
+     *
+     * @return The kind of the token (END when the input is exhausted)
+     */
+    public int next() {
+        while (position < limit && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+        tokenStart = position;
+        if (position >= limit) {
+            tokenEnd = position;
+            symbol = 0;
+            return END;
+        }
+
+        tokenCount++;
+        char ch = input.charAt(position);
+        symbol = ch;
+        if (isDigit(ch) || (ch == '.' && position + 1 < limit && isDigit(input.charAt(position + 1)))) {
+            scanNumber();
+            return NUMBER;
+        }
+        if (Character.isLetter(ch)) {
+            position++;
+            while (position < limit && Character.isLetterOrDigit(input.charAt(position))) {
+                position++;
+            }
+            tokenEnd = position;
+            char function = OperatorRegistry.functionCode(input, tokenStart, tokenEnd);
+            if (function != 0) {
+                symbol = function;
+                return FUNCTION;
+            }
+            return IDENTIFIER;
+        }
+
+        position++;
+        tokenEnd = position;
+        if (ch == '(') {
+            return LEFT_PAREN;
+        } else if (ch == ')') {
+            return RIGHT_PAREN;
+        } else if (ch == ',') {
+            return COMMA;
+        } else if (OperatorRegistry.isOperator(ch)) {
+            return OPERATOR;
+        }
+        return INVALID;
+    }
+
+    /**
+     * Scan a number starting at the cursor and compute its value
+     * Up to 15 significant digits with at most 22 decimals the value is computed
+     * exactly from the digits; longer literals fall back to Double.parseDouble
+     */
+    private void scanNumber() {
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean exact = true;
+        boolean seenPoint = false;
+
+        while (position < limit) {
+            char ch = input.charAt(position);
+            if (isDigit(ch)) {
+                if (mantissa < MAX_EXACT_MANTISSA / 10) {
+                    mantissa = mantissa * 10 + (ch - '0');
+                } else {
+                    exact = false;
+                }
+                if (seenPoint) {
+                    fractionDigits++;
+                }
+            } else if (ch == '.' && !seenPoint) {
+                seenPoint = true;
+            } else {
+                break;
+            }
+            position++;
+        }
+        tokenEnd = position;
+
+        if (exact && fractionDigits < POWERS_OF_TEN.length) {
+            numberValue = mantissa / POWERS_OF_TEN[fractionDigits];
+        } else {
+            numberValue = Double.parseDouble(input.subSequence(tokenStart, tokenEnd).toString());
+        }
+    }
+
+    /**
+     * Check for an ASCII digit
+     *
+     * @param ch Character to check
+     * @return true if ch is 0-9
+     */
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    /**
+     * Get the value of the current NUMBER token
+     *
+     * @return The parsed value
+     */
+    public double getNumberValue() {
+        return numberValue;
+    }
+
+    /**
+     * Get the first character of the current token
+     * For OPERATOR, parenthesis, COMMA and INVALID tokens this is the whole token;
+     * for a FUNCTION it is the function code (see OperatorRegistry)
+     *
+     * @return The first character or function code, or 0 at END
+     */
+    public char getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Get the start offset of the current token in the input
+     *
+     * @return Start offset
+     */
+    public int getTokenStart() {
+        return tokenStart;
+    }
+
+    /**
+     * Get the end offset (exclusive) of the current token in the input
+     *
+     * @return End offset
+     */
+    public int getTokenEnd() {
+        return tokenEnd;
+    }
+
+    /**
+     * Get the number of tokens returned by next() since the last reset
+     *
+     * @return Token count, not counting END
+     */
+    public int getTokenCount() {
+        return tokenCount;
+    }
+
+    /**
+     * Get the input being tokenized
+     *
+     * @return The input
+     */
+    public CharSequence getInput() {
+        return input;
+    }
+
+    /**
+     * Get the text of the current token as a view over the input
+     * The same view object is returned for every token and follows the cursor,
+     * so call toString() on it if the text must be kept
+     *
+     * @return View of the current token's characters
+     */
+    public CharSequence getTokenText() {
+        return tokenText;
+    }
+
+    /**
+     * Check whether the current token text equals a string, without allocating
+     *
+     * @param text Text to compare with
+     * @return true if the current token consists of exactly these characters
+     */
+    public boolean tokenEquals(String text) {
+        int length = tokenEnd - tokenStart;
+        if (length != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (input.charAt(tokenStart + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Live view of the current token's characters
+     */
+    private final class TokenText implements CharSequence {
+
+        @Override
+        public int length() {
+            return tokenEnd - tokenStart;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return input.charAt(tokenStart + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return input.subSequence(tokenStart + start, tokenStart + end);
+        }
+
+        @Override
+        public String toString() {
+            return input.subSequence(tokenStart, tokenEnd).toString();
+        }
+    }
+}
\ No newline at end of file
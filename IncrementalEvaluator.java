@@ -0,0 +1,368 @@
+import java.util.Arrays;
+
+/**
+ * IncrementalEvaluator class - re-evaluates a compiled expression after a few
+ * bindings change, recomputing only the parts of the expression that depend on them
+ *
+ * The program is turned into a DAG once: one node per constant, per variable and per
+ * operation (shared subexpressions stay shared), with the value of every node cached
+ * and a list of parents for every node. Nodes are numbered in postfix order, so every
+ * node's children have smaller numbers than the node itself.
+ *
+ * Changing a binding marks the variable's ancestors as pending. evaluate() then visits
+ * only the pending nodes, in increasing node number, and recomputes a node only if one
+ * of its children actually changed value; a node whose new value equals its old value
+ * stops the change from spreading further. The cost of an update is therefore
+ * proportional to the part of the DAG above the changed variables, not to the size
+ * of the whole expression.
+ *
+ * Only the built-in operators are supported; expressions that call registered
+ * operators or functions (see OperatorRegistry) are rejected.
+ *
+ * Instances are not thread-safe.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class IncrementalEvaluator {
+
+    // Operator characters indexed by opcode - OP_ADD
+    private static final String OPERATORS = "+-*/^";
+
+    // The DAG (node ids are indexes into these arrays)
+    private final CompiledExpression expression;
+    private final int[] kinds;            // OP_CONST, OP_LOAD or a binary opcode
+    private final int[] lefts;            // Left child
+    private final int[] rights;           // Right child
+    private final double[] values;        // Cached value of every node
+    private final int[] parentStart;      // Parents of node n are parents[parentStart[n]..parentStart[n + 1])
+    private final int[] parents;
+    private final int[] variableNodes;    // Node of each variable slot (-1 if unused)
+    private final int nodeCount;
+    private final int root;
+
+    // Pending update state
+    private final double[] bindings;      // Current variable values
+    private final boolean[] pending;      // Node is an ancestor of a changed variable
+    private final boolean[] changed;      // Node value changed in the current update
+    private final int[] pendingNodes;     // Pending node ids, unordered
+    private int pendingCount;
+    private final int[] changedVariables; // Variable nodes changed since the last evaluate
+    private int changedVariableCount;
+    private boolean fullRecomputeNeeded;  // Cached values are not trustworthy (after an error)
+    private int lastRecomputed;           // Operation nodes recomputed by the last evaluate
+
+    /**
+     * Parameterized constructor - builds the DAG and evaluates it once
+     * Algorithm:
+     * 1. Run the program symbolically, creating a node for every value it pushes
+     *    (OP_LOAD_TEMP reuses the node stored by OP_STORE_TEMP)
+     * 2. Count the parents of every node and store them in one array, grouped by node
+     * 3. Compute every node value from the initial bindings
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @param expression The expression to evaluate
+     * @param initialBindings Initial variable values indexed by slot
+     * @throws RuntimeException if a binding is missing, the expression calls a
+     *         registered operator or function, or on division by zero
+     */
+    public IncrementalEvaluator(CompiledExpression expression, double[] initialBindings) {
+        int variableCount = expression.getVariableCount();
+        if (initialBindings.length < variableCount) {
+            throw new RuntimeException("Expected " + variableCount + " bindings but got "
+                    + initialBindings.length);
+        }
+        this.expression = expression;
+
+        int[] code = expression.getCode();
+        double[] constants = expression.getConstants();
+        int capacity = code.length;
+        this.kinds = new int[capacity];
+        this.lefts = new int[capacity];
+        this.rights = new int[capacity];
+        this.values = new double[capacity];
+        this.variableNodes = new int[variableCount];
+        this.bindings = Arrays.copyOf(initialBindings, variableCount);
+        Arrays.fill(variableNodes, -1);
+
+        // Build the nodes
+        IntStack stack = new IntStack(expression.getMaxStackDepth());
+        int[] tempNodes = new int[expression.getTempCount()];
+        int count = 0;
+        for (int instruction : code) {
+            int opcode = instruction & CompiledExpression.OPCODE_MASK;
+            int operand = instruction >>> CompiledExpression.OPERAND_SHIFT;
+            switch (opcode) {
+                case CompiledExpression.OP_CONST:
+                    kinds[count] = opcode;
+                    values[count] = constants[operand];
+                    stack.push(count++);
+                    break;
+                case CompiledExpression.OP_LOAD:
+                    if (variableNodes[operand] < 0) {
+                        kinds[count] = opcode;
+                        lefts[count] = operand;
+                        variableNodes[operand] = count++;
+                    }
+                    stack.push(variableNodes[operand]);
+                    break;
+                case CompiledExpression.OP_STORE_TEMP:
+                    tempNodes[operand] = stack.peek();
+                    break;
+                case CompiledExpression.OP_LOAD_TEMP:
+                    stack.push(tempNodes[operand]);
+                    break;
+                case CompiledExpression.OP_CALL:
+                    throw new RuntimeException("Unsupported operator or function: "
+                            + OperatorRegistry.getName((char) operand));
+                default:
+                    kinds[count] = opcode;
+                    rights[count] = stack.pop();
+                    lefts[count] = stack.pop();
+                    stack.push(count++);
+            }
+        }
+        this.nodeCount = count;
+        this.root = stack.pop();
+
+        // Group the parents of every node
+        this.parentStart = new int[count + 1];
+        for (int node = 0; node < count; node++) {
+            if (isOperation(node)) {
+                parentStart[lefts[node] + 1]++;
+                parentStart[rights[node] + 1]++;
+            }
+        }
+        for (int node = 0; node < count; node++) {
+            parentStart[node + 1] += parentStart[node];
+        }
+        this.parents = new int[parentStart[count]];
+        int[] fill = Arrays.copyOf(parentStart, count);
+        for (int node = 0; node < count; node++) {
+            if (isOperation(node)) {
+                parents[fill[lefts[node]]++] = node;
+                parents[fill[rights[node]]++] = node;
+            }
+        }
+
+        this.pending = new boolean[count];
+        this.changed = new boolean[count];
+        this.pendingNodes = new int[count];
+        this.changedVariables = new int[variableCount];
+        this.fullRecomputeNeeded = true;
+        evaluate();
+    }
+
+    /**
+     * Change the value of a variable
+     * Algorithm:
+     * 1. Ignore the call if the value is the same as before
+     * 2. Store the value in the variable's node and mark it changed
+     * 3. Mark every ancestor of the node pending (each at most once)
+     *
+     * Time Complexity: O(number of ancestors not already pending)
+     * Space Complexity: O(1) amortized
+     *
+     * @param slot The variable slot (see CompiledExpression.slotOf)
+     * @param value The new value
+     */
+    public void set(int slot, double value) {
+        if (Double.doubleToLongBits(bindings[slot]) == Double.doubleToLongBits(value)) {
+            return;
+        }
+        bindings[slot] = value;
+
+        int node = variableNodes[slot];
+        if (node < 0) {
+            return;
+        }
+        values[node] = value;
+        if (!changed[node]) {
+            changed[node] = true;
+            changedVariables[changedVariableCount++] = node;
+        }
+
+        // Walk up the DAG using the pending list itself as the work list
+        int scanned = pendingCount;
+        markParentsPending(node);
+        while (scanned < pendingCount) {
+            markParentsPending(pendingNodes[scanned++]);
+        }
+    }
+
+    /**
+     * Change the value of a variable by name
+     *
+     * @param name The variable name
+     * @param value The new value
+     * @throws RuntimeException if the expression does not use the variable
+     */
+    public void set(String name, double value) {
+        int slot = expression.slotOf(name);
+        if (slot < 0) {
+            throw new RuntimeException("Unknown variable: " + name);
+        }
+        set(slot, value);
+    }
+
+    /**
+     * Get the value of the expression for the current bindings
+     * Algorithm:
+     * 1. Sort the pending nodes by node id (children before parents)
+     * 2. For each pending node, recompute it only if a child changed, and mark it
+     *    changed only if its value is different from the cached one
+     * 3. Clear the pending and changed flags and return the root value
+     *
+     * Time Complexity: O(p log p) for p pending nodes
+     * Space Complexity: O(1)
+     *
+     * @return The value of the expression
+     * @throws RuntimeException on division by zero (the next call recomputes everything)
+     */
+    public double evaluate() {
+        if (fullRecomputeNeeded) {
+            return recomputeAll();
+        }
+
+        Arrays.sort(pendingNodes, 0, pendingCount);
+        int recomputed = 0;
+        try {
+            for (int i = 0; i < pendingCount; i++) {
+                int node = pendingNodes[i];
+                if (changed[lefts[node]] || changed[rights[node]]) {
+                    double value = apply(node);
+                    recomputed++;
+                    if (Double.doubleToLongBits(value) != Double.doubleToLongBits(values[node])) {
+                        values[node] = value;
+                        changed[node] = true;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            fullRecomputeNeeded = true;
+            throw e;
+        } finally {
+            clearUpdate();
+        }
+        lastRecomputed = recomputed;
+        return values[root];
+    }
+
+    /**
+     * Recompute every node from the current bindings
+     *
+     * @return The value of the expression
+     * @throws RuntimeException on division by zero
+     */
+    private double recomputeAll() {
+        clearUpdate();
+        for (int slot = 0; slot < variableNodes.length; slot++) {
+            if (variableNodes[slot] >= 0) {
+                values[variableNodes[slot]] = bindings[slot];
+            }
+        }
+        int recomputed = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            if (isOperation(node)) {
+                values[node] = apply(node);
+                recomputed++;
+            }
+        }
+        fullRecomputeNeeded = false;
+        lastRecomputed = recomputed;
+        return values[root];
+    }
+
+    /**
+     * Mark the parents of a node pending
+     *
+     * @param node Node id
+     */
+    private void markParentsPending(int node) {
+        for (int i = parentStart[node]; i < parentStart[node + 1]; i++) {
+            int parent = parents[i];
+            if (!pending[parent]) {
+                pending[parent] = true;
+                pendingNodes[pendingCount++] = parent;
+            }
+        }
+    }
+
+    /**
+     * Reset the pending and changed flags after an update
+     */
+    private void clearUpdate() {
+        for (int i = 0; i < pendingCount; i++) {
+            pending[pendingNodes[i]] = false;
+            changed[pendingNodes[i]] = false;
+        }
+        for (int i = 0; i < changedVariableCount; i++) {
+            changed[changedVariables[i]] = false;
+        }
+        pendingCount = 0;
+        changedVariableCount = 0;
+    }
+
+    /**
+     * Compute the value of an operation node from its children's cached values
+     *
+     * @param node Node id
+     * @return The new value
+     * @throws RuntimeException on division by zero
+     */
+    private double apply(int node) {
+        return Converter.performOperation(values[lefts[node]], values[rights[node]],
+                OPERATORS.charAt(kinds[node] - CompiledExpression.OP_ADD));
+    }
+
+    /**
+     * Check whether a node is a binary operation
+     *
+     * @param node Node id
+     * @return true unless the node is a constant or a variable
+     */
+    private boolean isOperation(int node) {
+        return kinds[node] != CompiledExpression.OP_CONST && kinds[node] != CompiledExpression.OP_LOAD;
+    }
+
+    /**
+     * Get the current value of a variable
+     *
+     * @param slot The variable slot
+     * @return The value
+     */
+    public double get(int slot) {
+        return bindings[slot];
+    }
+
+    /**
+     * Get the expression being evaluated
+     *
+     * @return The compiled expression
+     */
+    public CompiledExpression getExpression() {
+        return expression;
+    }
+
+    /**
+     * Get the number of DAG nodes
+     *
+     * @return Constants, variables and operations in the DAG
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Get the number of operations recomputed by the last evaluate
+     * (for checking that an update only touched the affected part of the DAG)
+     *
+     * @return Operation nodes recomputed
+     */
+    public int getLastRecomputedCount() {
+        return lastRecomputed;
+    }
+}
@@ -0,0 +1,275 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LruCache class - a thread-safe, size-bounded cache with least-recently-used eviction
+ * The entries are split into stripes chosen by the key's hash. Each stripe is a
+ * LinkedHashMap in access order with its own lock and its own share of the capacity,
+ * so the eldest entry of a stripe is the one that was used least recently and is
+ * evicted first once that stripe is full. Lookups of keys in different stripes never
+ * contend; the price is that eviction is least-recently-used per stripe rather than
+ * across the whole cache.
+ *
+ * Hit, miss and eviction counters are kept in LongAdders so that reading them
+ * never contends with lookups.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class LruCache<K, V> {
+
+    // Instance variables
+    private final int capacity;              // Maximum number of entries
+    private final Stripe<K, V>[] stripes;    // Entries, split by key hash (each guarded by itself)
+    private final int stripeMask;            // stripes.length - 1 (a power of two)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Parameterized constructor
+     * Initializes an empty cache with about two stripes per processor
+     *
+     * @param capacity Maximum number of entries kept in the cache
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public LruCache(int capacity) {
+        this(capacity, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Parameterized constructor
+     * Algorithm:
+     * 1. Round the stripe count down to a power of two, but no more than the capacity
+     * 2. Split the capacity between the stripes so that the shares add up to it
+     *
+     * @param capacity Maximum number of entries kept in the cache
+     * @param stripeCount Requested number of independently locked stripes
+     *                    (1 gives exact least-recently-used eviction)
+     * @throws IllegalArgumentException if capacity or stripeCount is not positive
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public LruCache(int capacity, int stripeCount) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + stripeCount);
+        }
+        this.capacity = capacity;
+        int count = Integer.highestOneBit(Math.min(capacity, stripeCount));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>(capacity / count + (i < capacity % count ? 1 : 0), evictions);
+        }
+        this.stripeMask = count - 1;
+    }
+
+    /**
+     * Find the stripe that holds a key
+     * The hash is spread so that keys differing only in high bits use different stripes
+     *
+     * @param key The key
+     * @return The stripe for the key
+     */
+    private Stripe<K, V> stripeFor(Object key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    /**
+     * Look up a value and mark it as most recently used
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @param key The key to look up
+     * @return The cached value, or null if absent
+     */
+    public V get(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        V value;
+        synchronized (stripe) {
+            value = stripe.get(key);
+        }
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Add a value unless another thread already added one for the same key
+     * Evicts the least recently used entry of the key's stripe if the stripe
+     * becomes too large
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @param key The key
+     * @param value The value to cache
+     * @return The value now cached for the key (the existing one if there was one)
+     */
+    public V putIfAbsent(K key, V value) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            V existing = stripe.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            stripe.put(key, value);
+            return value;
+        }
+    }
+
+    /**
+     * Remove the entry for a key, if there is one
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @param key The key
+     * @return The value that was cached for the key, or null if absent
+     */
+    public V remove(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.remove(key);
+        }
+    }
+
+    /**
+     * Remove the entry for a key only if it still holds the given value
+     * Lets a caller drop an entry it found to be stale without removing a newer
+     * value that another thread stored for the same key in the meantime
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @param key The key
+     * @param value The value expected for the key (compared with equals)
+     * @return true if the entry was removed
+     */
+    public boolean remove(K key, V value) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.remove(key, value);
+        }
+    }
+
+    /**
+     * Remove all entries (counters are kept)
+     * Stripes are cleared one at a time, so entries added concurrently may survive
+     */
+    public void clear() {
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Get the current number of entries
+     * Stripes are counted one at a time, so the result is a snapshot only when
+     * no other thread is using the cache
+     *
+     * Time Complexity: O(s), where s is the number of stripes
+     *
+     * @return Number of cached entries
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Get the maximum number of entries
+     *
+     * @return Cache capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the number of lookups that found a value
+     *
+     * @return Hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that found nothing
+     *
+     * @return Miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of entries evicted to respect the capacity
+     *
+     * @return Eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * toString method to display the cache statistics
+     *
+     * @return String with size, capacity and counters
+     */
+    @Override
+    public String toString() {
+        return "LruCache[size=" + size() + ", capacity=" + capacity + ", hits=" + getHitCount()
+                + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    /**
+     * Stripe class - one independently locked part of the cache
+     * A LinkedHashMap in access order that evicts its eldest entry once it holds
+     * more than its share of the capacity
+     */
+    private static final class Stripe<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;            // Share of the cache capacity
+        private final LongAdder evictions;     // Shared eviction counter of the cache
+
+        /**
+         * Parameterized constructor
+         *
+         * @param capacity Maximum number of entries in this stripe
+         * @param evictions Counter incremented for every eviction
+         */
+        Stripe(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
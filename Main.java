@@ -1,3 +1,11 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 /**
@@ -7,9 +15,10 @@ import java.util.Scanner;
  * Data Structures Midterm Laboratory Project 1
  * Activity: Conversion of infix to postfix expression and Evaluation of a postfix expression
  * 
- * NOTE: This provides the basic menu structure. The actual conversion and evaluation
- * logic in the Converter class needs to be implemented by the next coder.
- * 
+ * The menu delegates conversion and evaluation to the Converter class; the
+ * command-line modes described on main reuse the same engine without the
+ * step-by-step tables.
+ *
  * @author [Student Name]
  * @version 1.0
  * @since 2023
@@ -18,13 +27,80 @@ public class Main {
     
     private static Scanner scanner = new Scanner(System.in);
     
+    // Size of the buffers used by batch mode
+    private static final int BATCH_BUFFER_SIZE = 1 << 16;
+    
     /**
      * Main method - entry point of the program
      * Provides menu-based interface as required by PDF
      * 
-     * @param args Command line arguments (not used)
+     * With the arguments "--batch infix" or "--batch postfix" the program runs
+     * non-interactively instead (see runBatch), and "--bulk <input> <output>"
+     * evaluates a file of postfix expressions in parallel (see BulkEvaluator), and
+     * "--server <port>|<host>:<port>|unix:<path>" serves requests over a socket
+     * (see EvaluationServer), and "--stream" converts one infix expression of any
+     * size from standard input to standard output (see StreamingConverter)
+     * 
+     * @param args Command line arguments
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            if (args.length != 2 || !(args[1].equals("infix") || args[1].equals("postfix"))) {
+                System.err.println("Usage: java Main --batch infix|postfix");
+                System.exit(2);
+            }
+            try {
+                runBatch(args[1].equals("infix"));
+            } catch (IOException e) {
+                System.err.println("Error: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--bulk")) {
+            if (args.length != 3) {
+                System.err.println("Usage: java Main --bulk <postfix-input-file> <output-file>");
+                System.exit(2);
+            }
+            try {
+                long lines = new BulkEvaluator().evaluateFile(Paths.get(args[1]), Paths.get(args[2]));
+                System.err.println("Evaluated " + lines + " lines");
+            } catch (IOException e) {
+                System.err.println("Error: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--stream")) {
+            if (args.length != 1) {
+                System.err.println("Usage: java Main --stream < infix.txt > postfix.txt");
+                System.exit(2);
+            }
+            try {
+                new StreamingConverter(BATCH_BUFFER_SIZE).convert(Channels.newChannel(System.in),
+                        Channels.newChannel(System.out));
+                System.out.println();
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Error: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--server")) {
+            if (args.length != 2) {
+                System.err.println("Usage: java Main --server <port>|<host>:<port>|unix:<path>");
+                System.exit(2);
+            }
+            try (EvaluationServer server = new EvaluationServer(EvaluationServer.parseAddress(args[1]))) {
+                System.err.println("Listening on " + server.getLocalAddress());
+                server.serve();
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Error: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+        
         displayWelcomeMessage();
         displaySupportedOperators();
         
@@ -64,6 +140,40 @@ public class Main {
         scanner.close();
     }
     
+    /**
+     * Batch mode - convert or evaluate one expression per line of standard input
+     * Algorithm:
+     * 1. Read a line from standard input
+     * 2. Convert it to postfix (infix mode, without compiling or caching it) or
+     *    evaluate it (postfix mode)
+     * 3. Write one line with the result, or "ERROR: <message>" if it is invalid
+     * 4. Repeat until end of input, then flush the output
+     * 
+     * No banners, menus or tables are printed, and only one line is held in
+     * memory at a time, so the program can sit in a pipeline of any length.
+     * Blank input lines produce blank output lines to keep lines aligned.
+     * 
+     * @param infixMode true to convert infix lines, false to evaluate postfix lines
+     * @throws IOException if reading or writing fails
+     */
+    private static void runBatch(boolean infixMode) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(System.in, StandardCharsets.UTF_8), BATCH_BUFFER_SIZE);
+        BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8), BATCH_BUFFER_SIZE);
+        
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                ExpressionResult result = infixMode ? Converter.tryConvertInfixToPostfix(line)
+                        : Converter.tryEvaluatePostfix(line);
+                writer.write(result.toString());
+            }
+            writer.newLine();
+        }
+        writer.flush();
+    }
+    
     /**
      * Display welcome message and project information
      */
@@ -87,6 +197,10 @@ public class Main {
         System.out.println("  / : Division");
         System.out.println("  ^ : Exponentiation");
         System.out.println("  ( ) : Parentheses for grouping");
+        System.out.println("\nSUPPORTED FUNCTIONS:");
+        System.out.println("  max(a, b) : Larger of a and b");
+        System.out.println("  min(a, b) : Smaller of a and b");
+        System.out.println("  sqrt(a)   : Square root of a");
         System.out.println("\nOPERATOR PRECEDENCE (highest to lowest):");
         System.out.println("  1. ^ (Exponentiation) - Right-to-left associativity");
         System.out.println("  2. *, / (Multiplication, Division) - Left-to-right");
@@ -130,11 +244,10 @@ public class Main {
     
     /**
      * Handle infix to postfix conversion
-     * TODO: Next coder needs to implement the actual conversion logic in Converter class
      */
     private static void handleInfixToPostfixConversion() {
         System.out.println("\n=== INFIX TO POSTFIX CONVERSION ===");
-        System.out.println("NOTE: Input expression should not have spaces between characters.");
+        System.out.println("NOTE: Operands can be numbers (12, 3.5) or names (A, rate); spaces are optional.");
         System.out.println("Example: A+B*C or (A+B)*C");
         System.out.print("\nEnter infix expression: ");
         
@@ -145,21 +258,20 @@ public class Main {
             return;
         }
         
-        // TODO: Next coder should implement this method in Converter class
-        String result = Converter.convertInfixToPostfixWithTable(infixExpression);
-        
-        System.out.println("Result: " + result);
-        System.out.println("\nNOTE: The next coder needs to implement the full conversion algorithm");
-        System.out.println("with step-by-step table output as specified in the PDF.");
+        try {
+            String result = Converter.convertInfixToPostfixWithTable(infixExpression);
+            System.out.println("Result: " + result);
+        } catch (RuntimeException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
     }
     
     /**
      * Handle postfix expression evaluation
-     * TODO: Next coder needs to implement the actual evaluation logic in Converter class
      */
     private static void handlePostfixEvaluation() {
         System.out.println("\n=== POSTFIX EXPRESSION EVALUATION ===");
-        System.out.println("NOTE: Operands and operators must be separated by spaces.");
+        System.out.println("NOTE: Consecutive operands must be separated by spaces.");
         System.out.println("Example: 6 2 3 + - 3 8 2 / + * 2 ^ 3 +");
         System.out.print("\nEnter postfix expression: ");
         
@@ -170,22 +282,20 @@ public class Main {
             return;
         }
         
-        // TODO: Next coder should implement this method in Converter class
-        double result = Converter.evaluatePostfixWithTable(postfixExpression);
-        
-        System.out.println("Result: " + result);
-        System.out.println("\nNOTE: The next coder needs to implement the full evaluation algorithm");
-        System.out.println("with step-by-step table output as specified in the PDF.");
+        try {
+            double result = Converter.evaluatePostfixWithTable(postfixExpression);
+            System.out.println("Result: " + Converter.formatValue(result));
+        } catch (RuntimeException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
     }
     
     /**
-     * Run test examples from the PDF
-     * TODO: Next coder should implement the actual algorithms to make these tests work
+     * Run the worked examples from the PDF and a few precedence checks,
+     * printing the expected result next to the actual one
      */
     private static void runTestExamples() {
         System.out.println("\n=== TEST EXAMPLES FROM PDF ===");
-        System.out.println("NOTE: These are placeholder tests. The next coder needs to implement");
-        System.out.println("the actual conversion and evaluation algorithms in the Converter class.");
         
         // Test 1: Infix to Postfix conversion example from PDF
         System.out.println("\n1. Infix to Postfix Conversion Test:");
@@ -194,6 +304,7 @@ public class Main {
         
         String pdfInfixExample = "((A-(B+C))*D)^(E+F)";
         String conversionResult = Converter.convertInfixToPostfixWithTable(pdfInfixExample);
+        System.out.println("   Actual Result: " + conversionResult);
         
         // Test 2: Postfix evaluation example from PDF
         System.out.println("\n2. Postfix Evaluation Test:");
@@ -202,27 +313,24 @@ public class Main {
         
         String pdfPostfixExample = "6 2 3 + - 3 8 2 / + * 2 ^ 3 +";
         double evaluationResult = Converter.evaluatePostfixWithTable(pdfPostfixExample);
+        System.out.println("   Actual Result: " + Converter.formatValue(evaluationResult));
         
-        // Additional test cases for the next coder
-        System.out.println("\n3. Additional Test Cases for Next Coder:");
+        // Precedence and associativity checks
+        System.out.println("\n3. Precedence and Associativity Tests:");
         
-        String[] additionalInfixTests = {
-            "A+B*C",      // Expected: A B C * +
-            "(A+B)*C",    // Expected: A B + C *
-            "A+B*C-D",    // Expected: A B C * + D -
-            "A^B+C*D"     // Expected: A B ^ C D * +
+        String[][] additionalInfixTests = {
+            {"A+B*C", "A B C * +"},
+            {"(A+B)*C", "A B + C *"},
+            {"A+B*C-D", "A B C * + D -"},
+            {"A^B+C*D", "A B ^ C D * +"},
+            {"A^B^C", "A B C ^ ^"}
         };
         
-        for (String infix : additionalInfixTests) {
-            System.out.println("\nTest Input: " + infix);
-            String result = Converter.convertInfixToPostfixWithTable(infix);
+        for (String[] test : additionalInfixTests) {
+            System.out.println("\nTest Input: " + test[0]);
+            String result = Converter.convertInfixToPostfixWithTable(test[0]);
+            System.out.println("   Expected Result: " + test[1]);
+            System.out.println("   Actual Result: " + result);
         }
-        
-        System.out.println("\n=== INSTRUCTIONS FOR NEXT CODER ===");
-        System.out.println("1. Implement convertInfixToPostfixWithTable() in Converter class");
-        System.out.println("2. Implement evaluatePostfixWithTable() in Converter class");
-        System.out.println("3. Follow the exact algorithms from PDF pages 4-7");
-        System.out.println("4. Include step-by-step table output as shown in PDF examples");
-        System.out.println("5. Handle operator precedence and associativity correctly");
     }
 }
\ No newline at end of file
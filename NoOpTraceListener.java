@@ -0,0 +1,34 @@
+/**
+ * NoOpTraceListener class - a trace listener that ignores every step
+ * Used by the table-less conversion and evaluation paths. All methods are empty and
+ * the class is final, so once the JIT inlines the calls nothing of the tracing is
+ * left in the compiled loop.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public final class NoOpTraceListener implements ConversionTraceListener, EvaluationTraceListener {
+
+    // Shared instance (the listener has no state)
+    public static final NoOpTraceListener INSTANCE = new NoOpTraceListener();
+
+    /**
+     * Private constructor - use INSTANCE
+     */
+    private NoOpTraceListener() {
+    }
+
+    @Override
+    public void onSymbol(CharSequence symbol, CharSequence postfix, CharStack operatorStack) {
+    }
+
+    @Override
+    public void onOperand(CharSequence symbol, double value, DoubleStack operandStack) {
+    }
+
+    @Override
+    public void onOperator(char operator, double operand1, double operand2, double value,
+                           DoubleStack operandStack) {
+    }
+}
\ No newline at end of file
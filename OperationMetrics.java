@@ -0,0 +1,213 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OperationMetrics class - counters and a latency histogram for one kind of operation
+ * (for example conversion, evaluation or validation), see ConverterMetrics
+ *
+ * All counters are LongAdders, so recording from many threads does not contend.
+ * Latencies go into power-of-two buckets: bucket i counts calls that took at least
+ * 2^(i-1) and less than 2^i nanoseconds (bucket 0 is 0 ns), so percentiles are
+ * reported as the upper bound of their bucket, accurate to within a factor of two.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class OperationMetrics implements OperationMetricsMBean {
+
+    // One bucket per possible bit length of a non-negative long
+    private static final int BUCKET_COUNT = 64;
+
+    // Instance variables
+    private final String name;                      // Operation name, e.g. "conversion"
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder tokens = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    /**
+     * Parameterized constructor
+     *
+     * @param name Operation name used in reports and JMX object names
+     */
+    OperationMetrics(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record one call
+     * Algorithm:
+     * 1. Compute the elapsed time since startNanos
+     * 2. Add the call, its tokens and (if it failed) the error to the counters
+     * 3. Add one to the bucket numbered by the bit length of the elapsed time
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @param startNanos System.nanoTime() when the call started
+     * @param tokenCount Number of tokens the call processed
+     * @param failed true if the call threw or found its input invalid
+     */
+    public void record(long startNanos, int tokenCount, boolean failed) {
+        long elapsed = Math.max(0, System.nanoTime() - startNanos);
+        calls.increment();
+        tokens.add(tokenCount);
+        totalNanos.add(elapsed);
+        if (failed) {
+            errors.increment();
+        }
+        buckets[BUCKET_COUNT - Long.numberOfLeadingZeros(elapsed)].increment();
+    }
+
+    /**
+     * Get the operation name
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getTokens() {
+        return tokens.sum();
+    }
+
+    @Override
+    public double getMeanLatencyNanos() {
+        long count = calls.sum();
+        return count == 0 ? 0 : (double) totalNanos.sum() / count;
+    }
+
+    @Override
+    public long getP50LatencyNanos() {
+        return getPercentileNanos(0.50);
+    }
+
+    @Override
+    public long getP90LatencyNanos() {
+        return getPercentileNanos(0.90);
+    }
+
+    @Override
+    public long getP99LatencyNanos() {
+        return getPercentileNanos(0.99);
+    }
+
+    /**
+     * Get a latency percentile from the histogram
+     * Algorithm:
+     * 1. Take a snapshot of the bucket counts
+     * 2. Walk the buckets from the fastest until the running count reaches the
+     *    requested fraction of all calls
+     * 3. Return the upper bound of that bucket
+     *
+     * Time Complexity: O(number of buckets)
+     * Space Complexity: O(number of buckets)
+     *
+     * @param fraction Percentile as a fraction between 0 and 1
+     * @return Upper bound in nanoseconds of the bucket holding the percentile, 0 if no calls
+     */
+    public long getPercentileNanos(double fraction) {
+        long[] histogram = getLatencyHistogram();
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(fraction * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += histogram[i];
+            if (seen >= target && histogram[i] > 0) {
+                return bucketUpperBound(i);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        long[] histogram = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            histogram[i] = buckets[i].sum();
+        }
+        return histogram;
+    }
+
+    @Override
+    public void reset() {
+        calls.reset();
+        errors.reset();
+        tokens.reset();
+        totalNanos.reset();
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+    /**
+     * Get the exclusive upper bound of a latency bucket
+     *
+     * @param bucket Bucket index
+     * @return 2^bucket nanoseconds (Long.MAX_VALUE for the last bucket)
+     */
+    private static long bucketUpperBound(int bucket) {
+        return bucket >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /**
+     * Append a plain-text report: one summary line, then one line per non-empty bucket
+     *
+     * @param report The builder to append to
+     */
+    void appendReport(StringBuilder report) {
+        report.append(name)
+                .append(": calls=").append(getCalls())
+                .append(" errors=").append(getErrors())
+                .append(" tokens=").append(getTokens())
+                .append(String.format(" mean=%.0fns", getMeanLatencyNanos()))
+                .append(" p50<").append(getP50LatencyNanos()).append("ns")
+                .append(" p90<").append(getP90LatencyNanos()).append("ns")
+                .append(" p99<").append(getP99LatencyNanos()).append("ns")
+                .append(System.lineSeparator());
+
+        long[] histogram = getLatencyHistogram();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (histogram[i] > 0) {
+                long lower = i == 0 ? 0 : 1L << (i - 1);
+                report.append(String.format("  [%d, %d) ns: %d", lower, bucketUpperBound(i), histogram[i]))
+                        .append(System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * toString method to display the summary and histogram
+     *
+     * @return Plain-text report
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        appendReport(report);
+        return report.toString();
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * OperationMetricsMBean interface - JMX view of one OperationMetrics
+ * Each getter is a read-only attribute and reset is an operation.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public interface OperationMetricsMBean {
+
+    /**
+     * @return Number of calls recorded
+     */
+    long getCalls();
+
+    /**
+     * @return Number of calls that failed (threw or found the input invalid)
+     */
+    long getErrors();
+
+    /**
+     * @return Total number of tokens processed
+     */
+    long getTokens();
+
+    /**
+     * @return Mean latency in nanoseconds
+     */
+    double getMeanLatencyNanos();
+
+    /**
+     * @return Upper bound of the latency bucket holding the median, in nanoseconds
+     */
+    long getP50LatencyNanos();
+
+    /**
+     * @return Upper bound of the latency bucket holding the 90th percentile, in nanoseconds
+     */
+    long getP90LatencyNanos();
+
+    /**
+     * @return Upper bound of the latency bucket holding the 99th percentile, in nanoseconds
+     */
+    long getP99LatencyNanos();
+
+    /**
+     * @return Call counts per latency bucket; bucket i holds latencies below 2^i ns
+     */
+    long[] getLatencyHistogram();
+
+    /**
+     * Set all counters and buckets back to zero
+     */
+    void reset();
+}
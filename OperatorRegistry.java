@@ -0,0 +1,439 @@
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * OperatorRegistry class - the operators and functions known to the converter
+ * Every operator and function has a char code, and its precedence, associativity,
+ * arity, name and implementation are stored in arrays indexed by that code. Looking an
+ * operator up is therefore one array access, however many operators are registered.
+ * Each code also has an opcode: the built-in operators keep their CompiledExpression
+ * opcodes and are computed inline, everything else is OP_CALL and calls its
+ * implementation, so applying an operator is a single table switch.
+ *
+ * - Operators are single printable ASCII characters (codes below 0x80). The built-in
+ *   operators are + and - (precedence 1), * and / (2) and ^ (3, right-associative).
+ * - Functions are identifiers called as name(argument) or name(argument, argument).
+ *   Each function gets a code from 0x80 to 0xFF, which is what the tokenizer reports
+ *   and what the converter keeps on its operator stack; in postfix the name is
+ *   written, e.g. max(A, B) becomes "A B max". The built-in functions are max, min
+ *   and sqrt.
+ *
+ * New operators and functions are registered at startup, before expressions are
+ * converted or evaluated by other threads; registering clears the expression cache
+ * of Converter. Codes and names cannot be registered twice, so a registered operator
+ * or function never changes. Registering can still change the meaning of other
+ * expressions: a function name is then no longer a variable, so after
+ * registerFunction("X", ...) the expression "X + 1" is rejected and "X(2) + 1" is
+ * accepted. Variables cannot be called max, min or sqrt for the same reason.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public final class OperatorRegistry {
+
+    // Size of the lookup tables: every operator and function code is below this
+    public static final int TABLE_SIZE = 256;
+
+    // Function codes are assigned from FIRST_FUNCTION_CODE up to TABLE_SIZE - 1
+    static final char FIRST_FUNCTION_CODE = 0x80;
+
+    // Highest precedence an operator can be registered with
+    public static final int MAX_PRECEDENCE = 100;
+
+    // Size of the function name hash table (twice the number of function codes)
+    private static final int NAME_SLOTS = 256;
+
+    // Binding powers: an operator on the stack is popped before an incoming operator
+    // when its left binding is at least the right binding of the incoming one. The left
+    // binding is 2 x precedence; the right binding adds 1 for right-associative operators,
+    // so equal precedence pops only for left-associative ones. Functions bind tightest.
+    private static final int[] LEFT_BINDING = new int[TABLE_SIZE];
+    private static final int[] RIGHT_BINDING = new int[TABLE_SIZE];
+    private static final int FUNCTION_BINDING = 2 * MAX_PRECEDENCE + 2;
+
+    // Operator and function tables, indexed by code
+    private static final int[] PRECEDENCE = new int[TABLE_SIZE];       // 0 for functions and unknown codes
+    private static final int[] ARITY = new int[TABLE_SIZE];            // 0 for unknown codes
+    private static final boolean[] OPERATOR = new boolean[TABLE_SIZE]; // Code is a registered operator
+    private static final int[] OPCODES = new int[TABLE_SIZE];          // CompiledExpression opcode, 0 if unknown
+    private static final String[] NAMES = new String[TABLE_SIZE];      // Symbol or function name
+    private static final DoubleBinaryOperator[] BINARY = new DoubleBinaryOperator[TABLE_SIZE];
+    private static final DoubleUnaryOperator[] UNARY = new DoubleUnaryOperator[TABLE_SIZE];
+
+    // Function names, open addressing by hash
+    private static final String[] NAME_TABLE = new String[NAME_SLOTS];
+    private static final char[] NAME_CODES = new char[NAME_SLOTS];
+    private static char nextFunctionCode = FIRST_FUNCTION_CODE;
+
+    static {
+        for (int code = 0; code < TABLE_SIZE; code++) {
+            NAMES[code] = String.valueOf((char) code);
+        }
+        defineOperator('+', 1, false, CompiledExpression.OP_ADD, null);
+        defineOperator('-', 1, false, CompiledExpression.OP_SUB, null);
+        defineOperator('*', 2, false, CompiledExpression.OP_MUL, null);
+        defineOperator('/', 2, false, CompiledExpression.OP_DIV, null);
+        defineOperator('^', 3, true, CompiledExpression.OP_POW, null);
+        defineFunction("max", 2, null, Math::max);
+        defineFunction("min", 2, null, Math::min);
+        defineFunction("sqrt", 1, Math::sqrt, null);
+    }
+
+    /**
+     * Private constructor - the registry is used through its static methods
+     */
+    private OperatorRegistry() {
+    }
+
+    /**
+     * Register a binary operator
+     *
+     * @param symbol The operator character (printable ASCII, not a letter, digit,
+     *               parenthesis, comma or '.')
+     * @param precedence Precedence from 1 (like + and -) to MAX_PRECEDENCE
+     * @param rightAssociative true if a op b op c means a op (b op c), like ^
+     * @param implementation Computes operand1 op operand2
+     * @throws IllegalArgumentException if the symbol cannot be used or is already
+     *         registered, or the precedence is out of range
+     */
+    public static synchronized void registerOperator(char symbol, int precedence, boolean rightAssociative,
+                                                     DoubleBinaryOperator implementation) {
+        if (symbol <= ' ' || symbol >= 0x7F || Character.isLetterOrDigit(symbol)
+                || symbol == '(' || symbol == ')' || symbol == ',' || symbol == '.') {
+            throw new IllegalArgumentException("Invalid operator symbol: " + symbol);
+        }
+        if (ARITY[symbol] != 0) {
+            throw new IllegalArgumentException("Operator already registered: " + symbol);
+        }
+        if (precedence < 1 || precedence > MAX_PRECEDENCE) {
+            throw new IllegalArgumentException("Precedence must be between 1 and " + MAX_PRECEDENCE
+                    + ": " + precedence);
+        }
+        defineOperator(symbol, precedence, rightAssociative, CompiledExpression.OP_CALL, implementation);
+        Converter.getExpressionCache().clear();
+    }
+
+    /**
+     * Register a function of one argument, called as name(argument)
+     *
+     * @param name Function name (a letter followed by letters or digits); from now on
+     *             the name is a function and can no longer be used as a variable
+     * @param implementation Computes the function
+     * @return The code of the function
+     * @throws IllegalArgumentException if the name is invalid or already registered
+     * @throws IllegalStateException if every function code is in use
+     */
+    public static synchronized char registerFunction(String name, DoubleUnaryOperator implementation) {
+        checkFunctionName(name);
+        char code = defineFunction(name, 1, implementation, null);
+        Converter.getExpressionCache().clear();
+        return code;
+    }
+
+    /**
+     * Register a function of two arguments, called as name(argument1, argument2)
+     *
+     * @param name Function name (a letter followed by letters or digits); from now on
+     *             the name is a function and can no longer be used as a variable
+     * @param implementation Computes the function of argument1 and argument2
+     * @return The code of the function
+     * @throws IllegalArgumentException if the name is invalid or already registered
+     * @throws IllegalStateException if every function code is in use
+     */
+    public static synchronized char registerFunction(String name, DoubleBinaryOperator implementation) {
+        checkFunctionName(name);
+        char code = defineFunction(name, 2, null, implementation);
+        Converter.getExpressionCache().clear();
+        return code;
+    }
+
+    /**
+     * Fill in the table entries of an operator
+     *
+     * @param symbol The operator character
+     * @param precedence The precedence
+     * @param rightAssociative true for a right-associative operator
+     * @param opcode The built-in opcode, or OP_CALL
+     * @param implementation The implementation of an OP_CALL operator
+     */
+    private static void defineOperator(char symbol, int precedence, boolean rightAssociative, int opcode,
+                                       DoubleBinaryOperator implementation) {
+        PRECEDENCE[symbol] = precedence;
+        LEFT_BINDING[symbol] = 2 * precedence;
+        RIGHT_BINDING[symbol] = 2 * precedence + (rightAssociative ? 1 : 0);
+        BINARY[symbol] = implementation;
+        OPCODES[symbol] = opcode;
+        OPERATOR[symbol] = true;
+        ARITY[symbol] = 2;
+    }
+
+    /**
+     * Assign a code to a function and fill in its table entries
+     * The name is added to the hash table last, so the tokenizer never sees a
+     * code whose entries are not filled in yet
+     *
+     * @param name The function name
+     * @param arity 1 or 2
+     * @param unary The implementation of a one-argument function
+     * @param binary The implementation of a two-argument function
+     * @return The code of the function
+     * @throws IllegalStateException if every function code is in use
+     */
+    private static char defineFunction(String name, int arity, DoubleUnaryOperator unary,
+                                       DoubleBinaryOperator binary) {
+        if (nextFunctionCode >= TABLE_SIZE) {
+            throw new IllegalStateException("Too many functions: at most "
+                    + (TABLE_SIZE - FIRST_FUNCTION_CODE) + " can be registered");
+        }
+        char code = nextFunctionCode++;
+        NAMES[code] = name;
+        LEFT_BINDING[code] = FUNCTION_BINDING;
+        RIGHT_BINDING[code] = FUNCTION_BINDING;
+        UNARY[code] = unary;
+        BINARY[code] = binary;
+        OPCODES[code] = CompiledExpression.OP_CALL;
+        ARITY[code] = arity;
+
+        int slot = nameSlot(hash(name, 0, name.length()));
+        while (NAME_TABLE[slot] != null) {
+            slot = (slot + 1) & (NAME_SLOTS - 1);
+        }
+        NAME_CODES[slot] = code;
+        NAME_TABLE[slot] = name;
+        return code;
+    }
+
+    /**
+     * Check that a function name is an identifier that is not registered yet
+     *
+     * @param name The function name
+     * @throws IllegalArgumentException if the name is invalid or already registered
+     */
+    private static void checkFunctionName(String name) {
+        boolean valid = !name.isEmpty() && Character.isLetter(name.charAt(0));
+        for (int i = 1; i < name.length() && valid; i++) {
+            valid = Character.isLetterOrDigit(name.charAt(i));
+        }
+        if (!valid) {
+            throw new IllegalArgumentException("Invalid function name: " + name);
+        }
+        if (functionCode(name, 0, name.length()) != 0) {
+            throw new IllegalArgumentException("Function already registered: " + name);
+        }
+    }
+
+    /**
+     * Check if a character is a registered operator
+     *
+     * @param ch Character to check
+     * @return true if ch is a registered operator
+     */
+    public static boolean isOperator(char ch) {
+        return ch < TABLE_SIZE && OPERATOR[ch];
+    }
+
+    /**
+     * Check if a code is the code of a registered function
+     *
+     * @param code Code to check
+     * @return true if code is a function code
+     */
+    public static boolean isFunction(char code) {
+        return code >= FIRST_FUNCTION_CODE && code < TABLE_SIZE && ARITY[code] != 0;
+    }
+
+    /**
+     * Get the precedence of an operator
+     *
+     * @param operator The operator character
+     * @return Precedence (higher number = higher precedence), 0 if not an operator
+     */
+    public static int getPrecedence(char operator) {
+        return operator < TABLE_SIZE ? PRECEDENCE[operator] : 0;
+    }
+
+    /**
+     * Check if an operator is right-associative
+     *
+     * @param operator The operator character
+     * @return true if a op b op c means a op (b op c)
+     */
+    public static boolean isRightAssociative(char operator) {
+        return operator < TABLE_SIZE && RIGHT_BINDING[operator] != LEFT_BINDING[operator];
+    }
+
+    /**
+     * Get the number of operands of an operator or function
+     *
+     * @param code The operator character or function code
+     * @return 2 for operators, 1 or 2 for functions, 0 if not registered
+     */
+    public static int getArity(char code) {
+        return code < TABLE_SIZE ? ARITY[code] : 0;
+    }
+
+    /**
+     * Get the instruction that applies an operator or function
+     *
+     * @param code The operator character or function code
+     * @return The opcode of a built-in operator, otherwise an OP_CALL instruction
+     *         with the code as its operand
+     * @throws RuntimeException if the code is not registered
+     */
+    static int instructionFor(char code) {
+        int opcode = code < TABLE_SIZE ? OPCODES[code] : 0;
+        if (opcode == CompiledExpression.OP_CALL) {
+            return (code << CompiledExpression.OPERAND_SHIFT) | opcode;
+        }
+        if (opcode == 0) {
+            throw new RuntimeException("Invalid operator: " + getName(code));
+        }
+        return opcode;
+    }
+
+    /**
+     * Check whether an operator (or function) on the operator stack must be popped
+     * before an incoming operator is pushed: it has higher precedence, or equal
+     * precedence and the incoming operator is left-associative
+     *
+     * Time Complexity: O(1), two table loads and one comparison
+     *
+     * @param top The operator on top of the stack
+     * @param incoming The operator being pushed
+     * @return true if top must be popped first
+     */
+    public static boolean popsBefore(char top, char incoming) {
+        return (top < TABLE_SIZE ? LEFT_BINDING[top] : 0) >= (incoming < TABLE_SIZE ? RIGHT_BINDING[incoming] : 0);
+    }
+
+    /**
+     * Apply a binary operator or a function of two arguments
+     * Dispatches on the opcode of the code, so the built-in operators cost no call
+     *
+     * @param code The operator character or function code
+     * @param operand1 First operand
+     * @param operand2 Second operand
+     * @return Result of the operation
+     * @throws RuntimeException on division by zero or if code is not a binary operator or function
+     */
+    public static double apply(char code, double operand1, double operand2) {
+        switch (code < TABLE_SIZE ? OPCODES[code] : 0) {
+            case CompiledExpression.OP_ADD:
+                return operand1 + operand2;
+            case CompiledExpression.OP_SUB:
+                return operand1 - operand2;
+            case CompiledExpression.OP_MUL:
+                return operand1 * operand2;
+            case CompiledExpression.OP_DIV:
+                if (operand2 == 0) {
+                    throw new RuntimeException("Division by zero");
+                }
+                return operand1 / operand2;
+            case CompiledExpression.OP_POW:
+                return Math.pow(operand1, operand2);
+            default:
+                DoubleBinaryOperator implementation = code < TABLE_SIZE ? BINARY[code] : null;
+                if (implementation == null) {
+                    throw new RuntimeException("Invalid operator: " + getName(code));
+                }
+                return implementation.applyAsDouble(operand1, operand2);
+        }
+    }
+
+    /**
+     * Apply a function of one argument
+     *
+     * @param code The function code
+     * @param operand The argument
+     * @return Result of the function
+     * @throws RuntimeException if code is not a function of one argument
+     */
+    public static double apply(char code, double operand) {
+        DoubleUnaryOperator implementation = code < TABLE_SIZE ? UNARY[code] : null;
+        if (implementation == null) {
+            throw new RuntimeException("Invalid operator: " + getName(code));
+        }
+        return implementation.applyAsDouble(operand);
+    }
+
+    /**
+     * Get the text of an operator or function as written in expressions
+     *
+     * @param code The operator character or function code (any other character,
+     *             such as '(', is returned as itself)
+     * @return The symbol or function name
+     */
+    public static String getName(char code) {
+        return code < TABLE_SIZE ? NAMES[code] : String.valueOf(code);
+    }
+
+    /**
+     * Find the function whose name is the given part of the input, without creating a substring
+     *
+     * Time Complexity: O(length of the name), expected
+     *
+     * @param input Characters containing the name
+     * @param start Index of the first character of the name
+     * @param end Index after the last character of the name
+     * @return The function code, or 0 if no function has this name
+     */
+    public static char functionCode(CharSequence input, int start, int end) {
+        int slot = nameSlot(hash(input, start, end));
+        String name;
+        while ((name = NAME_TABLE[slot]) != null) {
+            if (regionEquals(name, input, start, end)) {
+                return NAME_CODES[slot];
+            }
+            slot = (slot + 1) & (NAME_SLOTS - 1);
+        }
+        return 0;
+    }
+
+    /**
+     * Hash part of a character sequence (same as String.hashCode of that part)
+     *
+     * @param input The characters
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return The hash code
+     */
+    private static int hash(CharSequence input, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + input.charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * Get the home slot of a hash in the name table
+     *
+     * @param hash The hash code
+     * @return Slot index
+     */
+    private static int nameSlot(int hash) {
+        return (hash ^ (hash >>> 16)) & (NAME_SLOTS - 1);
+    }
+
+    /**
+     * Compare a name with part of a character sequence
+     *
+     * @param name The name
+     * @param input The characters
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return true if the characters are exactly the name
+     */
+    private static boolean regionEquals(String name, CharSequence input, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != input.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * OptimizationResult class - the output of ExpressionOptimizer
+ * Holds the optimized expression together with counts of what the optimizer removed,
+ * so the savings of the pass can be checked.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class OptimizationResult {
+
+    // Instance variables
+    private final CompiledExpression expression;   // The optimized expression
+    private final int instructionsBefore;          // Instruction count of the input
+    private final int instructionsAfter;           // Instruction count of the output
+    private final int constantsFolded;             // Operations replaced by their constant value
+    private final int identitiesSimplified;        // Operations removed by x*1, x-0, x^1 etc.
+    private final int subexpressionsShared;        // Subexpressions computed once and reused
+    private final int reusesOfShared;              // Times a shared value was loaded instead of recomputed
+
+    /**
+     * Parameterized constructor
+     *
+     * @param expression The optimized expression
+     * @param instructionsBefore Instruction count of the input
+     * @param constantsFolded Number of operations folded into constants
+     * @param identitiesSimplified Number of operations removed by algebraic identities
+     * @param subexpressionsShared Number of common subexpressions stored in temporary slots
+     * @param reusesOfShared Number of loads of those temporary slots
+     */
+    OptimizationResult(CompiledExpression expression, int instructionsBefore, int constantsFolded,
+                       int identitiesSimplified, int subexpressionsShared, int reusesOfShared) {
+        this.expression = expression;
+        this.instructionsBefore = instructionsBefore;
+        this.instructionsAfter = expression.getInstructionCount();
+        this.constantsFolded = constantsFolded;
+        this.identitiesSimplified = identitiesSimplified;
+        this.subexpressionsShared = subexpressionsShared;
+        this.reusesOfShared = reusesOfShared;
+    }
+
+    /**
+     * Get the optimized expression
+     *
+     * @return The optimized expression
+     */
+    public CompiledExpression getExpression() {
+        return expression;
+    }
+
+    /**
+     * Get the instruction count before optimization
+     *
+     * @return Instructions in the input program
+     */
+    public int getInstructionsBefore() {
+        return instructionsBefore;
+    }
+
+    /**
+     * Get the instruction count after optimization
+     *
+     * @return Instructions in the optimized program
+     */
+    public int getInstructionsAfter() {
+        return instructionsAfter;
+    }
+
+    /**
+     * Get the number of operations replaced by their constant value
+     *
+     * @return Constant folds
+     */
+    public int getConstantsFolded() {
+        return constantsFolded;
+    }
+
+    /**
+     * Get the number of operations removed by algebraic identities
+     *
+     * @return Identity simplifications
+     */
+    public int getIdentitiesSimplified() {
+        return identitiesSimplified;
+    }
+
+    /**
+     * Get the number of common subexpressions kept in temporary slots
+     *
+     * @return Shared subexpressions
+     */
+    public int getSubexpressionsShared() {
+        return subexpressionsShared;
+    }
+
+    /**
+     * Get the number of times a shared subexpression is reused instead of recomputed
+     *
+     * @return Reuses of shared subexpressions
+     */
+    public int getReusesOfShared() {
+        return reusesOfShared;
+    }
+
+    /**
+     * toString method to display a summary of the savings
+     *
+     * @return Summary of the optimization
+     */
+    @Override
+    public String toString() {
+        return "Instructions: " + instructionsBefore + " -> " + instructionsAfter
+                + " (constants folded: " + constantsFolded
+                + ", identities simplified: " + identitiesSimplified
+                + ", common subexpressions: " + subexpressionsShared
+                + " reused " + reusesOfShared + " times)";
+    }
+}
\ No newline at end of file
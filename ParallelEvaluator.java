@@ -0,0 +1,415 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * ParallelEvaluator class - evaluates very large postfix expressions on a fork-join pool
+ * The postfix expression is first turned into an expression tree, then independent
+ * subtrees are evaluated in parallel. Expressions smaller than the threshold are
+ * evaluated sequentially, exactly like Converter.evaluatePostfix, so small inputs
+ * pay nothing for the parallel mode.
+ *
+ * The tree is kept in arrays indexed by token position (postfix order). The subtree
+ * of node n then occupies the consecutive nodes n - size[n] + 1 .. n, the right child
+ * of an operator is node n - 1 and its left child is node n - 1 - size[n - 1]; a
+ * function of one argument (such as sqrt) has node n - 1 as its only child. So a
+ * subtree can be evaluated sequentially with an ordinary operand stack over its
+ * range, and no node objects or recursion are needed.
+ *
+ * Every operation is applied to the same operands as in the sequential evaluation,
+ * so the result is identical, not just close. Registered functions of one and two
+ * arguments are supported like the operators.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class ParallelEvaluator {
+
+    // Default subtree size (in nodes) below which evaluation is sequential
+    private static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    // Instance variables
+    private final ForkJoinPool pool;   // Pool the subtrees are evaluated on
+    private final int threshold;       // Smallest subtree that is split into parallel tasks
+
+    /**
+     * Default constructor
+     * Uses the common fork-join pool and a threshold of 16384 nodes
+     */
+    public ParallelEvaluator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Parameterized constructor
+     *
+     * @param pool The fork-join pool to evaluate subtrees on
+     * @param threshold Subtrees with fewer nodes than this are evaluated sequentially
+     * @throws IllegalArgumentException if threshold is less than 2
+     */
+    public ParallelEvaluator(ForkJoinPool pool, int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Threshold must be at least 2: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Evaluate a postfix expression, in parallel if it is large enough
+     * Algorithm:
+     * 1. If the expression has fewer characters than the threshold (and so fewer
+     *    nodes), or the pool has a single thread, evaluate it with
+     *    Converter.tryEvaluatePostfix
+     * 2. Otherwise build the tree, validating the expression as it is read
+     *    (see buildTree)
+     * 3. Evaluate the root on the pool (see SubtreeTask)
+     * A malformed expression is rejected before anything is evaluated, so it is
+     * reported even if it would also divide by zero earlier on.
+     *
+     * Time Complexity: O(n) work, O(n / p + depth) wall-clock time on p threads
+     * for balanced trees
+     * Space Complexity: O(n)
+     *
+     * @param postfixExpression The postfix expression to evaluate (space-separated)
+     * @return The value of the expression
+     * @throws RuntimeException if the expression is malformed or divides by zero
+     *         (the message is the reason Converter.tryEvaluatePostfix gives, without
+     *         the position, whether or not the expression is evaluated in parallel)
+     */
+    public double evaluate(String postfixExpression) {
+        if (postfixExpression.length() < threshold || pool.getParallelism() < 2) {
+            ExpressionResult result = Converter.tryEvaluatePostfix(postfixExpression);
+            if (!result.isValid()) {
+                throw new RuntimeException(result.getErrorReason());
+            }
+            return result.getValue();
+        }
+        try {
+            ExpressionTree tree = buildTree(postfixExpression);
+            int root = tree.count - 1;
+            if (tree.count < threshold) {
+                return evaluateRange(tree, 0, root, new DoubleStack());
+            }
+            return pool.invoke(new SubtreeTask(tree, root, threshold));
+        } catch (RuntimeException e) {
+            // join() rethrows a task's exception as a copy whose cause is the original,
+            // once per level of nested tasks it passed through
+            RuntimeException failure = e;
+            Throwable cause;
+            while ((cause = failure.getCause()) instanceof RuntimeException
+                    && cause.getClass() == failure.getClass()) {
+                failure = (RuntimeException) cause;
+            }
+            throw failure;
+        }
+    }
+
+    /**
+     * Build the expression tree, tokenizing chunks of the input in parallel
+     * Algorithm:
+     * 1. Split the input into up to 4 chunks per pool thread, each at least
+     *    4 x threshold characters, ending at whitespace so no token is split
+     * 2. Tokenize every chunk as a separate task
+     * 3. Join the chunks in order into one tree (see ExpressionTree)
+     * Tokenizing is most of the cost of the tree, so doing it sequentially would
+     * cancel out the gain of the parallel evaluation.
+     *
+     * @param postfixExpression The postfix expression
+     * @return The tree
+     * @throws RuntimeException if the expression is malformed
+     */
+    private ExpressionTree buildTree(String postfixExpression) {
+        int length = postfixExpression.length();
+        int chunkCount = (int) Math.max(1, Math.min(pool.getParallelism() * 4L, length / (threshold * 4L)));
+        if (chunkCount == 1) {
+            return new ExpressionTree(new TokenChunk[] {new TokenChunk(postfixExpression, 0, length)});
+        }
+
+        List<ForkJoinTask<TokenChunk>> tasks = new ArrayList<>(chunkCount);
+        int start = 0;
+        for (int i = 1; i <= chunkCount && start < length; i++) {
+            int end = (int) ((long) length * i / chunkCount);
+            while (end < length && !Character.isWhitespace(postfixExpression.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                int chunkStart = start;
+                int chunkEnd = end;
+                tasks.add(pool.submit(() -> new TokenChunk(postfixExpression, chunkStart, chunkEnd)));
+                start = end;
+            }
+        }
+        TokenChunk[] chunks = new TokenChunk[tasks.size()];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = tasks.get(i).join();
+        }
+        return new ExpressionTree(chunks);
+    }
+
+    /**
+     * Get the subtree size below which evaluation is sequential
+     *
+     * @return Threshold in nodes
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Evaluate a subtree, splitting it into parallel tasks where it is large enough
+     * Algorithm:
+     * 1. Descend from the node: a subtree below the threshold is evaluated sequentially;
+     *    a node whose two children are both at least the threshold forks its left child,
+     *    evaluates its right child in this thread and joins; otherwise go down into
+     *    the larger child (the only child of a one-argument function), remembering
+     *    the path
+     * 2. Going back up the path, evaluate the small sibling at every step
+     *    sequentially and apply the operator (a one-argument function is applied to
+     *    the value from below)
+     * Only splits into two large halves become tasks, so the number of tasks is at
+     * most about n / threshold and long chains cause neither tiny tasks nor deep
+     * recursion.
+     *
+     * @param tree The expression tree
+     * @param node Root of the subtree
+     * @param threshold Smallest subtree that is split
+     * @return The value of the subtree
+     */
+    private static double evaluateNode(ExpressionTree tree, int node, int threshold) {
+        int[] sizes = tree.sizes;
+        DoubleStack operandStack = new DoubleStack();
+        IntStack path = new IntStack();
+        int current = node;
+        double value;
+
+        while (true) {
+            if (sizes[current] < threshold) {
+                value = evaluateRange(tree, current - sizes[current] + 1, current, operandStack);
+                break;
+            }
+            int right = current - 1;
+            if (OperatorRegistry.getArity(tree.operators[current]) == 1) {
+                path.push(current);
+                current = right;
+                continue;
+            }
+            int left = right - sizes[right];
+            boolean leftLarge = sizes[left] >= threshold;
+            boolean rightLarge = sizes[right] >= threshold;
+            if (leftLarge && rightLarge) {
+                SubtreeTask leftTask = new SubtreeTask(tree, left, threshold);
+                leftTask.fork();
+                double rightValue = evaluateNode(tree, right, threshold);
+                double leftValue = leftTask.join();
+                value = Converter.performOperation(leftValue, rightValue, tree.operators[current]);
+                break;
+            }
+            path.push(current);
+            current = sizes[left] >= sizes[right] ? left : right;
+        }
+
+        while (!path.isEmpty()) {
+            int parent = path.pop();
+            char operator = tree.operators[parent];
+            if (OperatorRegistry.getArity(operator) == 1) {
+                value = OperatorRegistry.apply(operator, value);
+                current = parent;
+                continue;
+            }
+            int right = parent - 1;
+            int left = right - sizes[right];
+            if (current == left) {
+                double rightValue = evaluateRange(tree, left + 1, right, operandStack);
+                value = Converter.performOperation(value, rightValue, operator);
+            } else {
+                double leftValue = evaluateRange(tree, left - sizes[left] + 1, left, operandStack);
+                value = Converter.performOperation(leftValue, value, operator);
+            }
+            current = parent;
+        }
+        return value;
+    }
+
+    /**
+     * Evaluate the consecutive nodes first..last (a whole subtree) with an operand stack
+     *
+     * Time Complexity: O(last - first)
+     * Space Complexity: O(depth of the subtree)
+     *
+     * @param tree The expression tree
+     * @param first First node of the subtree
+     * @param last Root of the subtree
+     * @param operandStack Empty stack to evaluate with (empty again on return)
+     * @return The value of the subtree
+     */
+    private static double evaluateRange(ExpressionTree tree, int first, int last, DoubleStack operandStack) {
+        char[] operators = tree.operators;
+        double[] values = tree.values;
+        if (first == last) {
+            return values[first];
+        }
+        for (int i = first; i <= last; i++) {
+            char operator = operators[i];
+            if (operator == 0) {
+                operandStack.push(values[i]);
+            } else if (OperatorRegistry.getArity(operator) == 1) {
+                operandStack.push(OperatorRegistry.apply(operator, operandStack.pop()));
+            } else {
+                double operand2 = operandStack.pop();
+                double operand1 = operandStack.pop();
+                operandStack.push(Converter.performOperation(operand1, operand2, operator));
+            }
+        }
+        return operandStack.pop();
+    }
+
+    /**
+     * Task evaluating one subtree (see evaluateNode)
+     */
+    private static final class SubtreeTask extends RecursiveTask<Double> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ExpressionTree tree;
+        private final int node;
+        private final int threshold;
+
+        SubtreeTask(ExpressionTree tree, int node, int threshold) {
+            this.tree = tree;
+            this.node = node;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Double compute() {
+            return evaluateNode(tree, node, threshold);
+        }
+    }
+
+    /**
+     * Tokens of one chunk of the input, in postfix order
+     */
+    private static final class TokenChunk {
+
+        private char[] operators;    // Operator of each token, 0 for a number
+        private double[] values;     // Value of each number token
+        private int count;           // Number of tokens before the first invalid one
+        private String error;        // Message for the first invalid token, null if none
+
+        /**
+         * Tokenize the characters between start and end of the input
+         * Stops at the first identifier or invalid token and records the reason
+         * Converter.tryEvaluatePostfix would give for it
+         *
+         * @param input The postfix expression
+         * @param start Index of the first character
+         * @param end Index after the last character (a token boundary)
+         */
+        TokenChunk(String input, int start, int end) {
+            int capacity = (end - start) / 2 + 1;
+            operators = new char[capacity];
+            values = new double[capacity];
+
+            ExpressionTokenizer tokenizer = new ExpressionTokenizer();
+            tokenizer.reset(input, start, end);
+            int kind;
+            while ((kind = tokenizer.next()) != ExpressionTokenizer.END) {
+                if (count == operators.length) {
+                    operators = Arrays.copyOf(operators, count * 2);
+                    values = Arrays.copyOf(values, count * 2);
+                }
+                if (kind == ExpressionTokenizer.NUMBER) {
+                    values[count++] = tokenizer.getNumberValue();
+                } else if (kind == ExpressionTokenizer.OPERATOR || kind == ExpressionTokenizer.FUNCTION) {
+                    operators[count++] = tokenizer.getSymbol();
+                } else {
+                    error = (kind == ExpressionTokenizer.IDENTIFIER ? "Invalid operand: " : "Invalid token: ")
+                            + tokenizer.getTokenText();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Expression tree in postfix order: one node per token
+     */
+    private static final class ExpressionTree {
+
+        private final char[] operators;    // Operator of each node, 0 for a number
+        private final double[] values;     // Value of each number node
+        private final int[] sizes;         // Number of nodes in the subtree rooted at each node
+        private final int count;           // Number of nodes
+
+        /**
+         * Build the tree from the tokens of consecutive chunks of the input
+         * Algorithm:
+         * 1. Copy the tokens of all chunks into one set of arrays
+         * 2. A number is a leaf of size 1; an operator's size is 1 + the sizes of its
+         *    two children (the previous subtree and the one before it), and a
+         *    one-argument function's size is 1 + the size of the previous subtree
+         * 3. Track the operand stack depth to reject malformed expressions; errors are
+         *    reported in input order, as by Converter.evaluatePostfix
+         *
+         * @param chunks Tokens of the input, chunk by chunk
+         * @throws RuntimeException if the expression is malformed
+         */
+        ExpressionTree(TokenChunk[] chunks) {
+            int total = 0;
+            for (TokenChunk chunk : chunks) {
+                total += chunk.count;
+            }
+            if (chunks.length == 1) {
+                operators = chunks[0].operators;
+                values = chunks[0].values;
+            } else {
+                operators = new char[total];
+                values = new double[total];
+            }
+            sizes = new int[total];
+            count = total;
+
+            int node = 0;
+            int depth = 0;
+            for (TokenChunk chunk : chunks) {
+                if (chunks.length > 1) {
+                    System.arraycopy(chunk.operators, 0, operators, node, chunk.count);
+                    System.arraycopy(chunk.values, 0, values, node, chunk.count);
+                }
+                for (int end = node + chunk.count; node < end; node++) {
+                    char operator = operators[node];
+                    if (operator == 0) {
+                        sizes[node] = 1;
+                        depth++;
+                    } else {
+                        int arity = OperatorRegistry.getArity(operator);
+                        if (depth < arity) {
+                            throw new RuntimeException("Not enough operands for operator: "
+                                    + OperatorRegistry.getName(operator));
+                        }
+                        int rightSize = sizes[node - 1];
+                        if (arity == 1) {
+                            sizes[node] = 1 + rightSize;
+                        } else {
+                            sizes[node] = 1 + rightSize + sizes[node - 1 - rightSize];
+                            depth--;
+                        }
+                    }
+                }
+                if (chunk.error != null) {
+                    throw new RuntimeException(chunk.error);
+                }
+            }
+
+            if (depth != 1) {
+                throw new RuntimeException(depth == 0 ? "Empty expression"
+                        : "Invalid postfix expression: " + depth + " values left on the stack");
+            }
+        }
+    }
+}
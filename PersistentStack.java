@@ -0,0 +1,222 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * PersistentStack class - immutable stack whose versions share structure
+ * Built on the same Node cons cells as Stack, but nodes are never modified after they
+ * are created: push returns a new version whose top node points at the old top, and
+ * pop returns the version below the top. Every version stays valid and unchanged, and
+ * keeping one costs a single reference, so a trace can record the stack after every
+ * step in O(1) and render it only when it is displayed.
+ *
+ * Instances are immutable and can be shared between threads (as long as the elements
+ * themselves are not modified).
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public final class PersistentStack<T> implements Iterable<T> {
+
+    // The empty stack, shared by all element types
+    private static final PersistentStack<Object> EMPTY = new PersistentStack<>(null, 0);
+
+    // Instance variables
+    private final Node<T> top;    // Top node (never modified), null if empty
+    private final int size;       // Number of elements
+    private String rendered;      // Cached result of toString (computed on first use)
+
+    /**
+     * Private constructor - use empty() and push
+     *
+     * @param top Top node
+     * @param size Number of elements
+     */
+    private PersistentStack(Node<T> top, int size) {
+        this.top = top;
+        this.size = size;
+    }
+
+    /**
+     * Get the empty stack
+     *
+     * @param <T> Element type
+     * @return The empty stack
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentStack<T> empty() {
+        return (PersistentStack<T>) EMPTY;
+    }
+
+    /**
+     * Push operation - returns a stack with the element on top of this one
+     * Algorithm:
+     * 1. Create a node holding the data whose next reference is this stack's top
+     * 2. Return a new version with that node as top and size + 1
+     * This stack is not changed; both versions share all of its nodes.
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @param data The data to be pushed
+     * @return The new version
+     */
+    public PersistentStack<T> push(T data) {
+        return new PersistentStack<>(new Node<>(data, top), size + 1);
+    }
+
+    /**
+     * Pop operation - returns the stack below the top element
+     * This stack is not changed; use peek to read the element being removed.
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @return The version without the top element
+     * @throws RuntimeException if stack is empty
+     */
+    public PersistentStack<T> pop() {
+        if (isEmpty()) {
+            throw new RuntimeException("Stack is empty. Cannot pop from empty stack.");
+        }
+        Node<T> next = top.getNext();
+        return next == null ? empty() : new PersistentStack<>(next, size - 1);
+    }
+
+    /**
+     * Peek operation - returns the top element
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @return The element on top of the stack
+     * @throws RuntimeException if stack is empty
+     */
+    public T peek() {
+        if (isEmpty()) {
+            throw new RuntimeException("Stack is empty. Cannot peek empty stack.");
+        }
+        return top.getData();
+    }
+
+    /**
+     * Check if stack is empty
+     *
+     * @return true if stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the current size of the stack
+     *
+     * @return Number of elements in the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Convert stack to array representation (top to bottom, like Stack.toArray)
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @return Array representation of stack elements
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+        for (Node<T> current = top; current != null; current = current.getNext()) {
+            array[index++] = current.getData();
+        }
+        return array;
+    }
+
+    /**
+     * Render the elements from bottom to top, the order used by the step tables
+     * Algorithm:
+     * 1. Copy the elements into an array (the nodes only link top to bottom)
+     * 2. Append them to a StringBuilder from the last to the first, separated
+     *    by the separator (see appendTo)
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @param separator Text between two elements
+     * @param formatter Converts an element to text
+     * @return The rendered stack (empty if the stack is empty)
+     */
+    public String render(String separator, Function<? super T, String> formatter) {
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder, separator, formatter);
+        return builder.toString();
+    }
+
+    /**
+     * Append the elements from bottom to top to a StringBuilder (see render)
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @param builder Builder to append to
+     * @param separator Text between two elements
+     * @param formatter Converts an element to text
+     */
+    public void appendTo(StringBuilder builder, String separator, Function<? super T, String> formatter) {
+        Object[] elements = toArray();
+        for (int i = elements.length - 1; i >= 0; i--) {
+            if (i < elements.length - 1) {
+                builder.append(separator);
+            }
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[i];
+            builder.append(formatter.apply(element));
+        }
+    }
+
+    /**
+     * Get an iterator over the elements from top to bottom
+     *
+     * @return Iterator starting at the top
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> current = top;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                T data = current.getData();
+                current = current.getNext();
+                return data;
+            }
+        };
+    }
+
+    /**
+     * toString method to display stack contents from bottom to top, separated by spaces
+     * The text is computed on the first call and reused afterwards
+     *
+     * @return String representation of the stack
+     */
+    @Override
+    public String toString() {
+        String text = rendered;
+        if (text == null) {
+            text = render(" ", String::valueOf);
+            rendered = text;
+        }
+        return text;
+    }
+}
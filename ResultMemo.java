@@ -0,0 +1,261 @@
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ResultMemo class - optional memoization of evaluation results
+ * Remembers the value of a compiled expression for a binding vector, so that callers
+ * that evaluate the same (expression, bindings) pair again get the stored value
+ * instead of running the program.
+ *
+ * Entries are keyed by the identity of the CompiledExpression (Converter.compile
+ * returns one shared instance per expression) plus a copy of the bindings, compared
+ * bit for bit. They are kept in one LruCache, whose own lock striping lets concurrent
+ * callers rarely contend. Entries are evicted by size (least recently used first,
+ * per stripe of the cache) and by age.
+ *
+ * Only expressions for which CompiledExpression.isPure() holds are memoized; others,
+ * and evaluations that throw, are never stored. The memo is opt-in: nothing in
+ * Converter uses it, so the step-by-step table paths always run the full algorithm.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class ResultMemo {
+
+    // Default number of entries and entry lifetime
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final long DEFAULT_MAX_AGE_SECONDS = 60;
+
+    // Instance variables
+    private final LruCache<Key, Entry> entries;   // Stored results
+    private final long maxAgeNanos;                // Entries older than this are not used
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+
+    /**
+     * Default constructor
+     * Keeps up to 4096 results for up to 60 seconds
+     */
+    public ResultMemo() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_AGE_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Parameterized constructor
+     *
+     * @param capacity Maximum number of results kept
+     * @param maxAge How long a result may be reused
+     * @param unit Unit of maxAge
+     * @throws IllegalArgumentException if capacity or maxAge is not positive
+     */
+    public ResultMemo(int capacity, long maxAge, TimeUnit unit) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Memo capacity must be positive: " + capacity);
+        }
+        if (maxAge <= 0) {
+            throw new IllegalArgumentException("Maximum age must be positive: " + maxAge);
+        }
+        this.entries = new LruCache<>(capacity);
+        this.maxAgeNanos = unit.toNanos(maxAge);
+    }
+
+    /**
+     * Evaluate a compiled expression, reusing a stored result when there is one
+     * Algorithm:
+     * 1. If the expression is not pure, evaluate it (counted as a bypass)
+     * 2. Look the key up without copying the bindings (only the
+     *    first getVariableCount() values are part of the key); a result that is
+     *    younger than the maximum age is returned (a hit); an older one is removed,
+     *    unless another thread has already replaced it
+     * 3. Otherwise evaluate, and store the result under a key holding a copy of
+     *    the bindings
+     *
+     * Time Complexity: O(v) for a hit, where v is the number of bindings
+     * Space Complexity: O(v) for a miss
+     *
+     * @param expression The compiled expression
+     * @param bindings Variable values indexed by slot (not modified, not kept)
+     * @return The value of the expression
+     * @throws RuntimeException if a binding is missing or on division by zero
+     */
+    public double evaluate(CompiledExpression expression, double[] bindings) {
+        if (!expression.isPure()) {
+            bypasses.increment();
+            return expression.evaluate(bindings);
+        }
+        int length = expression.getVariableCount();
+        if (bindings.length < length) {
+            return expression.evaluate(bindings);   // Throws the missing binding error
+        }
+
+        Key probe = new Key(expression, bindings, length);
+        Entry entry = entries.get(probe);
+        long now = System.nanoTime();
+        if (entry != null) {
+            if (now - entry.createdNanos < maxAgeNanos) {
+                hits.increment();
+                return entry.value;
+            }
+            entries.remove(probe, entry);
+            expirations.increment();
+        }
+
+        misses.increment();
+        double value = expression.evaluate(bindings);
+        entries.putIfAbsent(new Key(expression, Arrays.copyOf(bindings, length), length), new Entry(value, now));
+        return value;
+    }
+
+    /**
+     * Evaluate an infix expression (compiled through Converter.compile and its cache)
+     *
+     * @param infixExpression The infix expression
+     * @param bindings Variable values indexed by slot (see CompiledExpression.slotOf)
+     * @return The value of the expression
+     * @throws RuntimeException if the expression is invalid, a binding is missing
+     *         or on division by zero
+     */
+    public double evaluate(String infixExpression, double[] bindings) {
+        return evaluate(Converter.compile(infixExpression), bindings);
+    }
+
+    /**
+     * Remove all stored results (counters are kept)
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Get the number of stored results (including ones that have expired but
+     * have not been looked up since)
+     *
+     * @return Number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the number of evaluations answered from the memo
+     *
+     * @return Hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of pure evaluations that had to run the program
+     * (expired entries included)
+     *
+     * @return Miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of entries found but too old to be used
+     *
+     * @return Expiration count
+     */
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    /**
+     * Get the number of entries evicted to respect the capacity
+     *
+     * @return Eviction count
+     */
+    public long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+
+    /**
+     * Get the number of evaluations of expressions that are not pure
+     *
+     * @return Bypass count
+     */
+    public long getBypassCount() {
+        return bypasses.sum();
+    }
+
+    /**
+     * Get the fraction of pure evaluations answered from the memo
+     *
+     * @return Hits / (hits + misses), or 0 before the first evaluation
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * toString method to display the memo statistics
+     *
+     * @return String with size, hit rate and counters
+     */
+    @Override
+    public String toString() {
+        return "ResultMemo[size=" + size() + ", hitRate=" + String.format("%.3f", getHitRate())
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", expirations=" + getExpirationCount() + ", evictions=" + getEvictionCount()
+                + ", bypasses=" + getBypassCount() + "]";
+    }
+
+    /**
+     * Memo key: expression identity and the first length binding values
+     */
+    private static final class Key {
+        private final CompiledExpression expression;
+        private final double[] bindings;
+        private final int length;
+        private final int hash;
+
+        Key(CompiledExpression expression, double[] bindings, int length) {
+            this.expression = expression;
+            this.bindings = bindings;
+            this.length = length;
+            int h = System.identityHashCode(expression);
+            for (int i = 0; i < length; i++) {
+                h = h * 31 + Long.hashCode(Double.doubleToLongBits(bindings[i]));
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return expression == key.expression && hash == key.hash
+                    && Arrays.equals(bindings, 0, length, key.bindings, 0, key.length);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Stored result and the time it was computed
+     */
+    private static final class Entry {
+        private final double value;
+        private final long createdNanos;
+
+        Entry(double value, long createdNanos) {
+            this.value = value;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
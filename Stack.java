@@ -1,30 +1,65 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Stack class implementation using linked list (Node-based)
  * This class implements the Last-In-First-Out (LIFO) data structure
  * 
+ * A stack created with a free-list capacity recycles its nodes: popped nodes have
+ * their data cleared and are kept on a bounded per-stack free list, and later pushes
+ * reuse them instead of allocating. This removes the per-push allocation for stacks
+ * that are pushed and popped at high frequency.
+ * 
+ * Stacks are Iterable (top to bottom) and can feed sequential or parallel Streams
+ * directly through a sized Spliterator. The stack must not be modified while it is
+ * being iterated or streamed.
+ * 
  * @author [Student Name]
  * @version 1.0
  * @since 2023
  */
-public class Stack<T> {
+public class Stack<T> implements Iterable<T> {
     
     // Instance variables
     private Node<T> top;      // Reference to the top node of the stack
     private int size;         // Current size of the stack
+    private Node<T> free;     // Top of the free list of recycled nodes
+    private int freeCount;    // Number of nodes on the free list
+    private final int maxFreeNodes; // Free-list capacity (0 disables recycling)
     
     /**
      * Default constructor
-     * Initializes an empty stack
+     * Initializes an empty stack without node recycling
      */
     public Stack() {
+        this(0);
+    }
+    
+    /**
+     * Parameterized constructor
+     * Initializes an empty stack that keeps up to maxFreeNodes popped nodes for reuse
+     * 
+     * @param maxFreeNodes Maximum number of nodes on the free list (0 disables recycling)
+     * @throws RuntimeException if maxFreeNodes is negative
+     */
+    public Stack(int maxFreeNodes) {
+        if (maxFreeNodes < 0) {
+            throw new RuntimeException("Free list capacity cannot be negative: " + maxFreeNodes);
+        }
         this.top = null;
         this.size = 0;
+        this.maxFreeNodes = maxFreeNodes;
     }
     
     /**
      * Push operation - adds an element to the top of the stack
      * Algorithm:
-     * 1. Create a new node with the given data
+     * 1. Take a node from the free list if there is one, otherwise create a new node,
+     *    and store the given data in it
      * 2. Set the new node's next reference to current top
      * 3. Update top to point to the new node
      * 4. Increment size
@@ -35,12 +70,64 @@ public class Stack<T> {
      * @param data The data to be pushed onto the stack
      */
     public void push(T data) {
-        Node<T> newNode = new Node<>(data);
+        Node<T> newNode = obtainNode(data);
         newNode.setNext(top);
         top = newNode;
         size++;
     }
     
+    /**
+     * Push every element of a collection, in iteration order
+     * (the last element ends up on top)
+     * Algorithm:
+     * 1. Link a node for each element onto a local top reference
+     * 2. Publish the new top and size once at the end
+     * 
+     * Time Complexity: O(k) for k elements
+     * Space Complexity: O(k)
+     * 
+     * @param elements The elements to push
+     */
+    public void pushAll(Iterable<? extends T> elements) {
+        Node<T> newTop = top;
+        int added = 0;
+        for (T data : elements) {
+            Node<T> node = obtainNode(data);
+            node.setNext(newTop);
+            newTop = node;
+            added++;
+        }
+        top = newTop;
+        size += added;
+    }
+    
+    /**
+     * Push a range of an array, in array order (elements[offset + length - 1] ends up on top)
+     * 
+     * Time Complexity: O(length)
+     * Space Complexity: O(length)
+     * 
+     * @param elements The array holding the elements
+     * @param offset Index of the first element to push
+     * @param length Number of elements to push
+     * @throws RuntimeException if the range is outside the array
+     */
+    public void pushAll(T[] elements, int offset, int length) {
+        if (offset < 0 || length < 0 || length > elements.length - offset) {
+            throw new RuntimeException("Invalid range: offset " + offset + ", length " + length
+                    + " for array of length " + elements.length);
+        }
+        
+        Node<T> newTop = top;
+        for (int i = offset; i < offset + length; i++) {
+            Node<T> node = obtainNode(elements[i]);
+            node.setNext(newTop);
+            newTop = node;
+        }
+        top = newTop;
+        size += length;
+    }
+    
     /**
      * Pop operation - removes and returns the top element from the stack
      * Algorithm:
@@ -48,7 +135,9 @@ public class Stack<T> {
      * 2. Store the data from top node
      * 3. Update top to point to the next node
      * 4. Decrement size
-     * 5. Return the stored data
+     * 5. If recycling is enabled and the free list is not full, clear the old top
+     *    node's data and put it on the free list
+     * 6. Return the stored data
      * 
      * Time Complexity: O(1)
      * Space Complexity: O(1)
@@ -61,12 +150,79 @@ public class Stack<T> {
             throw new RuntimeException("Stack is empty. Cannot pop from empty stack.");
         }
         
-        T data = top.getData();
-        top = top.getNext();
+        Node<T> node = top;
+        T data = node.getData();
+        top = node.getNext();
         size--;
+        recycle(node);
         return data;
     }
     
+    /**
+     * Pop up to count elements into an array
+     * Algorithm:
+     * 1. Walk min(count, size) nodes from the top, copying each element into
+     *    destination (the old top goes into destination[0])
+     * 2. Publish the new top and size once at the end
+     * 
+     * Time Complexity: O(count)
+     * Space Complexity: O(1)
+     * 
+     * @param count Maximum number of elements to pop
+     * @param destination Array receiving the elements, top first
+     * @return The number of elements popped (less than count if the stack ran out)
+     * @throws RuntimeException if count is negative or larger than the array
+     */
+    public int popN(int count, T[] destination) {
+        if (count < 0 || count > destination.length) {
+            throw new RuntimeException("Invalid count " + count + " for array of length " + destination.length);
+        }
+        
+        int popped = Math.min(count, size);
+        Node<T> current = top;
+        for (int i = 0; i < popped; i++) {
+            destination[i] = current.getData();
+            Node<T> next = current.getNext();
+            recycle(current);
+            current = next;
+        }
+        top = current;
+        size -= popped;
+        return popped;
+    }
+    
+    /**
+     * Get a node for a pushed element, from the free list if possible
+     * 
+     * @param data The element
+     * @return A node holding the element
+     */
+    private Node<T> obtainNode(T data) {
+        if (free == null) {
+            return new Node<>(data);
+        }
+        Node<T> node = free;
+        free = node.getNext();
+        freeCount--;
+        node.setData(data);
+        return node;
+    }
+    
+    /**
+     * Put a popped node on the free list if recycling is enabled and the list is not
+     * full; its data is cleared so the element can be garbage collected
+     * 
+     * @param node The popped node
+     */
+    private void recycle(Node<T> node) {
+        if (freeCount < maxFreeNodes) {
+            node.setData(null);
+            node.setNext(free);
+            free = node;
+            freeCount++;
+        }
+    }
+    
     /**
      * Peek operation - returns the top element without removing it
      * Algorithm:
@@ -113,11 +269,24 @@ public class Stack<T> {
         return size;
     }
     
+    /**
+     * Get the number of recycled nodes waiting on the free list
+     * 
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     * 
+     * @return The number of nodes on the free list
+     */
+    public int getFreeNodeCount() {
+        return freeCount;
+    }
+    
     /**
      * Clear all elements from the stack
      * Algorithm:
      * 1. Set top to null
      * 2. Reset size to 0
+     * (The nodes are dropped rather than recycled; the free list is kept)
      * 
      * Time Complexity: O(1)
      * Space Complexity: O(1)
@@ -217,4 +386,124 @@ public class Stack<T> {
         
         return -1;
     }
+    
+    /**
+     * Get an iterator over the elements from top to bottom
+     * 
+     * @return Iterator starting at the top
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> current = top;
+            
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+            
+            @Override
+            public T next() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                T data = current.getData();
+                current = current.getNext();
+                return data;
+            }
+        };
+    }
+    
+    /**
+     * Get a spliterator over the elements from top to bottom
+     * It walks the nodes directly and knows its exact size, and it splits into node
+     * ranges without copying, so parallel streams can divide a long stack between threads
+     * 
+     * @return Sized, ordered spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator<>(top, size);
+    }
+    
+    /**
+     * Get a sequential stream of the elements from top to bottom
+     * 
+     * @return Stream of the elements
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    
+    /**
+     * Get a parallel stream of the elements (encounter order is top to bottom)
+     * 
+     * @return Parallel stream of the elements
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }    
+    /**
+     * Spliterator over a range of a chain of nodes with a known length
+     * trySplit walks to the middle of the range and hands out the first half as a
+     * new range of the same chain, so no elements are copied
+     */
+    private static final class NodeSpliterator<T> implements Spliterator<T> {
+        
+        private Node<T> current;    // Next node to visit
+        private int remaining;      // Nodes left in the range, starting at current
+        
+        NodeSpliterator(Node<T> current, int remaining) {
+            this.current = current;
+            this.remaining = remaining;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            T data = current.getData();
+            current = current.getNext();
+            remaining--;
+            action.accept(data);
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Node<T> node = current;
+            int count = remaining;
+            current = null;
+            remaining = 0;
+            for (int i = 0; i < count; i++) {
+                action.accept(node.getData());
+                node = node.getNext();
+            }
+        }
+        
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining <= 1) {
+                return null;
+            }
+            int half = remaining >>> 1;
+            Node<T> prefixStart = current;
+            for (int i = 0; i < half; i++) {
+                current = current.getNext();
+            }
+            remaining -= half;
+            return new NodeSpliterator<>(prefixStart, half);
+        }
+        
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,379 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * StreamingConverter class - infix to postfix conversion of arbitrarily large expressions
+ * Reads the infix expression from a Reader (or channel) through a fixed-size buffer and
+ * writes each postfix token as soon as the shunting-yard algorithm can emit it:
+ * operands immediately, operators when they are popped. Operands are copied character
+ * by character, so the only memory that grows with the input is the operator stack,
+ * i.e. the nesting depth of the expression, never its length.
+ *
+ * The input is validated in the same pass with the same rules and messages as
+ * Converter.tryConvertInfixToPostfix. Output written before an error is found is not
+ * taken back, so callers should discard it when convert throws. Operands are never
+ * held in memory, so function names cannot be recognized: function calls such as
+ * max(A, B) are rejected (registered operators are supported).
+ *
+ * An instance reuses its buffers between conversions and is not thread-safe.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class StreamingConverter {
+
+    // Default size of the input and output buffers in characters
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // Longest operand quoted in an error message
+    private static final int MAX_ERROR_TOKEN_LENGTH = 64;
+
+    // Instance variables
+    private final char[] inputBuffer;       // Characters read but not yet consumed
+    private final char[] outputBuffer;      // Postfix characters not yet written
+    private final CharStack operatorStack;  // Operators and '(' of the shunting-yard algorithm
+    private Reader reader;                  // Input of the current conversion
+    private Writer writer;                  // Output of the current conversion
+    private int inputPosition;              // Index of the next unread character in inputBuffer
+    private int inputLimit;                 // Number of valid characters in inputBuffer
+    private int outputLength;               // Number of characters in outputBuffer
+    private long offset;                    // Number of input characters consumed
+    private long tokenCount;                // Tokens read so far
+    private long outputTokenCount;          // Postfix tokens written so far
+
+    /**
+     * Default constructor
+     * Uses 8 KiB input and output buffers
+     */
+    public StreamingConverter() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Parameterized constructor
+     *
+     * @param bufferSize Size of the input and output buffers in characters
+     * @throws IllegalArgumentException if bufferSize is not positive
+     */
+    public StreamingConverter(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.inputBuffer = new char[bufferSize];
+        this.outputBuffer = new char[bufferSize];
+        this.operatorStack = new CharStack();
+    }
+
+    /**
+     * Convert an infix expression read from a channel, writing the postfix expression
+     * to another channel; both are UTF-8 and neither is closed
+     *
+     * @param in Channel to read the infix expression from
+     * @param out Channel to write the postfix expression to
+     * @return Number of tokens read
+     * @throws IOException if reading or writing fails
+     * @throws RuntimeException if the expression is invalid (the message gives the position)
+     */
+    public long convert(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        Writer channelWriter = Channels.newWriter(out, StandardCharsets.UTF_8);
+        long tokens = convert(Channels.newReader(in, StandardCharsets.UTF_8), channelWriter);
+        channelWriter.flush();
+        return tokens;
+    }
+
+    /**
+     * Convert an infix expression read from a Reader, writing the postfix expression
+     * (tokens separated by single spaces) to a Writer; neither is closed
+     * Algorithm (same as Converter.convertInfixToPostfixWithTable):
+     * 1. Skip whitespace; operands are copied to the output as they are read
+     * 2. '(' is pushed, ')' pops operators to the output until the matching '('
+     * 3. An operator pops every operator of higher or equal precedence to the output,
+     *    then is pushed
+     * 4. At the end of the input the remaining operators are popped to the output
+     * Validation tracks whether an operand or an operator is expected next, as in
+     * Converter.tryConvertInfixToPostfix, and the offset of the outermost open '('.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(d) where d is the maximum operator stack depth
+     *
+     * @param in Reader to read the infix expression from
+     * @param out Writer to write the postfix expression to (flushed at the end)
+     * @return Number of tokens read
+     * @throws IOException if reading or writing fails
+     * @throws RuntimeException if the expression is invalid (the message gives the position)
+     */
+    public long convert(Reader in, Writer out) throws IOException {
+        reader = in;
+        writer = out;
+        inputPosition = 0;
+        inputLimit = 0;
+        outputLength = 0;
+        offset = 0;
+        tokenCount = 0;
+        outputTokenCount = 0;
+        operatorStack.clear();
+        if (!ConverterMetrics.ENABLED) {
+            return convert();
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            long tokens = convert();
+            failed = false;
+            return tokens;
+        } finally {
+            ConverterMetrics.CONVERSION.record(start, (int) Math.min(tokenCount, Integer.MAX_VALUE), failed);
+        }
+    }
+
+    /**
+     * The conversion algorithm itself (see convert(Reader, Writer))
+     *
+     * @return Number of tokens read
+     * @throws IOException if reading or writing fails
+     * @throws RuntimeException if the expression is invalid
+     */
+    private long convert() throws IOException {
+        boolean expectOperand = true;
+        int openParens = 0;
+        long outermostParenOffset = -1;
+
+        int ch = read();
+        while (ch >= 0) {
+            if (Character.isWhitespace(ch)) {
+                ch = read();
+                continue;
+            }
+            long tokenOffset = offset - 1;
+            tokenCount++;
+
+            if (isDigit(ch) || ch == '.') {
+                boolean seenPoint = false;
+                if (ch == '.') {
+                    int following = read();
+                    if (!isDigit(following)) {
+                        throw error(tokenOffset, "Invalid character: .");
+                    }
+                    if (!expectOperand) {
+                        throw missingOperator(tokenOffset, ".", following, true, true);
+                    }
+                    startToken();
+                    write('.');
+                    ch = following;
+                    seenPoint = true;
+                } else if (!expectOperand) {
+                    throw missingOperator(tokenOffset, "", ch, true, false);
+                } else {
+                    startToken();
+                }
+                ch = copyOperand(ch, true, seenPoint, null);
+                expectOperand = false;
+                continue;
+            }
+            if (Character.isLetter(ch)) {
+                if (!expectOperand) {
+                    throw missingOperator(tokenOffset, "", ch, false, false);
+                }
+                startToken();
+                ch = copyOperand(ch, false, false, null);
+                expectOperand = false;
+                continue;
+            }
+
+            char symbol = (char) ch;
+            if (symbol == '(') {
+                if (!expectOperand) {
+                    throw error(tokenOffset, "Missing operator before: (");
+                }
+                if (openParens++ == 0) {
+                    outermostParenOffset = tokenOffset;
+                }
+                operatorStack.push(symbol);
+            } else if (symbol == ')') {
+                if (expectOperand) {
+                    throw error(tokenOffset, "Missing operand before: )");
+                }
+                while (!operatorStack.isEmpty() && operatorStack.peek() != '(') {
+                    writeToken(operatorStack.pop());
+                }
+                if (operatorStack.isEmpty()) {
+                    throw error(tokenOffset, "Mismatched parentheses");
+                }
+                operatorStack.pop();
+                openParens--;
+            } else if (Converter.isOperator(symbol)) {
+                if (expectOperand) {
+                    throw error(tokenOffset, "Missing operand before: " + symbol);
+                }
+                while (!operatorStack.isEmpty() && operatorStack.peek() != '('
+                        && Converter.hasHigherOrEqualPrecedence(operatorStack.peek(), symbol)) {
+                    writeToken(operatorStack.pop());
+                }
+                operatorStack.push(symbol);
+                expectOperand = true;
+            } else {
+                throw error(tokenOffset, "Invalid character: " + symbol);
+            }
+            ch = read();
+        }
+
+        if (expectOperand) {
+            throw error(offset, tokenCount == 0 ? "Empty expression" : "Missing operand at end of expression");
+        }
+        if (openParens > 0) {
+            throw error(outermostParenOffset, "Mismatched parentheses");
+        }
+        while (!operatorStack.isEmpty()) {
+            writeToken(operatorStack.pop());
+        }
+        flushOutput();
+        writer.flush();
+        return tokenCount;
+    }
+
+    /**
+     * Copy the rest of an operand to the output, or to an error message
+     * A number continues over digits and at most one '.', an identifier over letters
+     * and digits (the same rules as ExpressionTokenizer)
+     *
+     * @param ch First character not yet copied
+     * @param number true for a number, false for an identifier
+     * @param seenPoint true if the number already contains its '.'
+     * @param errorText Receives the characters instead of the output when not null
+     *                  (at most MAX_ERROR_TOKEN_LENGTH of them)
+     * @return The first character after the operand, or -1 at the end of the input
+     * @throws IOException if reading or writing fails
+     */
+    private int copyOperand(int ch, boolean number, boolean seenPoint, StringBuilder errorText) throws IOException {
+        while (ch >= 0) {
+            if (number ? !isDigit(ch) && (ch != '.' || seenPoint) : !Character.isLetterOrDigit(ch)) {
+                break;
+            }
+            seenPoint |= ch == '.';
+            if (errorText == null) {
+                write((char) ch);
+            } else if (errorText.length() < MAX_ERROR_TOKEN_LENGTH) {
+                errorText.append((char) ch);
+            }
+            ch = read();
+        }
+        return ch;
+    }
+
+    /**
+     * Build the error for an operand that follows another operand
+     * The operand is read to its end so the message can quote it
+     *
+     * @param tokenOffset Offset of the operand
+     * @param prefix Characters of the operand already consumed
+     * @param ch First character of the operand not yet consumed
+     * @param number true for a number, false for an identifier
+     * @param seenPoint true if prefix contains the '.' of a number
+     * @return The exception to throw
+     * @throws IOException if reading fails
+     */
+    private RuntimeException missingOperator(long tokenOffset, String prefix, int ch,
+                                             boolean number, boolean seenPoint) throws IOException {
+        StringBuilder text = new StringBuilder(prefix);
+        copyOperand(ch, number, seenPoint, text);
+        if (text.length() >= MAX_ERROR_TOKEN_LENGTH) {
+            text.append("...");
+        }
+        return error(tokenOffset, "Missing operator before: " + text);
+    }
+
+    /**
+     * Build an exception in the format of ExpressionResult.getErrorMessage
+     *
+     * @param errorOffset Offset of the offending token
+     * @param reason Why the input was rejected
+     * @return The exception to throw
+     */
+    private static RuntimeException error(long errorOffset, String reason) {
+        return new RuntimeException(reason + " at position " + errorOffset);
+    }
+
+    /**
+     * Read the next input character, refilling the input buffer when it is empty
+     *
+     * @return The character, or -1 at the end of the input
+     * @throws IOException if reading fails
+     */
+    private int read() throws IOException {
+        if (inputPosition == inputLimit) {
+            int count;
+            do {
+                count = reader.read(inputBuffer, 0, inputBuffer.length);
+            } while (count == 0);
+            if (count < 0) {
+                return -1;
+            }
+            inputPosition = 0;
+            inputLimit = count;
+        }
+        offset++;
+        return inputBuffer[inputPosition++];
+    }
+
+    /**
+     * Start a new postfix token: write the separating space unless it is the first
+     *
+     * @throws IOException if writing fails
+     */
+    private void startToken() throws IOException {
+        if (outputTokenCount++ > 0) {
+            write(' ');
+        }
+    }
+
+    /**
+     * Write a single-character token to the output
+     *
+     * @param token The token
+     * @throws IOException if writing fails
+     */
+    private void writeToken(char token) throws IOException {
+        startToken();
+        write(token);
+    }
+
+    /**
+     * Write a character to the output buffer, flushing it to the Writer when full
+     *
+     * @param ch The character
+     * @throws IOException if writing fails
+     */
+    private void write(char ch) throws IOException {
+        if (outputLength == outputBuffer.length) {
+            flushOutput();
+        }
+        outputBuffer[outputLength++] = ch;
+    }
+
+    /**
+     * Write the output buffer to the Writer
+     *
+     * @throws IOException if writing fails
+     */
+    private void flushOutput() throws IOException {
+        writer.write(outputBuffer, 0, outputLength);
+        outputLength = 0;
+    }
+
+    /**
+     * Check for an ASCII digit
+     *
+     * @param ch Character to check, or -1
+     * @return true if ch is 0-9
+     */
+    private static boolean isDigit(int ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
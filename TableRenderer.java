@@ -0,0 +1,448 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TableRenderer class - buffered output of the step-by-step tables from the PDF
+ * Produces the same tables as ConsoleTableTraceListener (Symbol, Postfix Expression,
+ * Operator Stack for conversions; Symbol, Operand1, Operand2, Value, Stack for
+ * evaluations), but built for large traces:
+ *
+ * - Rows are recorded compactly while the algorithm runs: the postfix column is
+ *   kept as a prefix length of the final postfix expression and the stack column
+ *   as a PersistentStack version, so recording a row costs O(1).
+ * - When the table is complete the column widths are computed in one pass over the
+ *   rows, and the rows are formatted with plain appends (no format strings) into one
+ *   reusable StringBuilder.
+ * - The builder is encoded and written to a channel in blocks of about 64 KiB, so
+ *   output costs a few large writes rather than one per cell.
+ * - Optionally only every n-th row is kept (sampling) and/or only the first m kept
+ *   rows (truncation); a line reports how many rows were left out.
+ *
+ * A table that is cut short by an error is written by flush(). Instances are not
+ * thread-safe.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public class TableRenderer implements ConversionTraceListener, EvaluationTraceListener {
+
+    // Size at which the formatted text is written to the sink
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    // Column headers and minimum column widths (the widths of the PDF tables)
+    private static final String POSTFIX_HEADER = "Postfix Expression";
+    private static final int MIN_SYMBOL_WIDTH = 8;
+    private static final int MIN_OPERAND_WIDTH = 10;
+
+    // Kind of table being recorded
+    private static final int NONE = 0;
+    private static final int CONVERSION = 1;
+    private static final int EVALUATION = 2;
+
+    // Output
+    private final WritableByteChannel sink;       // Where the tables are written
+    private final StringBuilder block;             // Formatted text not yet written
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final ByteBuffer bytes = ByteBuffer.allocate(BLOCK_SIZE);
+
+    // Row selection
+    private final int sampleInterval;   // Keep every sampleInterval-th row
+    private final int maxRows;          // Keep at most this many rows per table
+
+    // Table being recorded
+    private int mode = NONE;
+    private final List<Row> rows = new ArrayList<>();
+    private long rowCount;              // Rows reported so far, kept or not
+    private boolean conversionFinished; // The final row of the conversion table is known
+    private final StringBuilder postfixText = new StringBuilder();   // Postfix expression so far
+    private PersistentStack<Character> operatorStack = PersistentStack.empty();
+    private PersistentStack<Double> operandStack = PersistentStack.empty();
+
+    /**
+     * Default constructor
+     * Writes every row to System.out
+     */
+    public TableRenderer() {
+        this(Channels.newChannel(System.out));
+    }
+
+    /**
+     * Parameterized constructor
+     * Writes every row to the sink
+     *
+     * @param sink Channel the tables are written to (UTF-8), e.g. a FileChannel
+     */
+    public TableRenderer(WritableByteChannel sink) {
+        this(sink, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parameterized constructor
+     *
+     * @param sink Channel the tables are written to (UTF-8), e.g. a FileChannel
+     * @param sampleInterval Keep only every sampleInterval-th row (1 keeps all)
+     * @param maxRows Keep at most this many rows per table (the final result row
+     *                of a conversion is always written)
+     * @throws IllegalArgumentException if sampleInterval or maxRows is not positive
+     */
+    public TableRenderer(WritableByteChannel sink, int sampleInterval, int maxRows) {
+        if (sampleInterval <= 0) {
+            throw new IllegalArgumentException("Sample interval must be positive: " + sampleInterval);
+        }
+        if (maxRows <= 0) {
+            throw new IllegalArgumentException("Maximum rows must be positive: " + maxRows);
+        }
+        this.sink = sink;
+        this.sampleInterval = sampleInterval;
+        this.maxRows = maxRows;
+        this.block = new StringBuilder(BLOCK_SIZE + 1024);
+    }
+
+    @Override
+    public void onConversionStart(String infixExpression) {
+        startTable(CONVERSION);
+        conversionFinished = false;
+        postfixText.setLength(0);
+        operatorStack = PersistentStack.empty();
+    }
+
+    @Override
+    public void onOperatorPush(char operator) {
+        operatorStack = operatorStack.push(operator);
+    }
+
+    @Override
+    public void onOperatorPop(char operator) {
+        operatorStack = operatorStack.pop();
+    }
+
+    @Override
+    public void onSymbol(CharSequence symbol, CharSequence postfix, CharStack operatorStack) {
+        // Only the characters appended since the last row are copied
+        postfixText.append(postfix, postfixText.length(), postfix.length());
+        if (keepRow()) {
+            rows.add(new Row(symbol.toString(), postfixText.length(), this.operatorStack, null));
+        }
+    }
+
+    @Override
+    public void onConversionFinish(CharSequence postfix) {
+        postfixText.append(postfix, postfixText.length(), postfix.length());
+        conversionFinished = true;
+        flush();
+    }
+
+    @Override
+    public void onEvaluationStart(String postfixExpression) {
+        startTable(EVALUATION);
+        operandStack = PersistentStack.empty();
+    }
+
+    @Override
+    public void onOperandPush(double value) {
+        operandStack = operandStack.push(value);
+    }
+
+    @Override
+    public void onOperandPop(double value) {
+        operandStack = operandStack.pop();
+    }
+
+    @Override
+    public void onOperand(CharSequence symbol, double value, DoubleStack operandStack) {
+        if (keepRow()) {
+            rows.add(new Row(symbol.toString(), 0, null, this.operandStack));
+        }
+    }
+
+    @Override
+    public void onOperator(char operator, double operand1, double operand2, double value,
+                           DoubleStack operandStack) {
+        if (keepRow()) {
+            String operand2Text = OperatorRegistry.getArity(operator) == 1 ? "" : Converter.formatValue(operand2);
+            rows.add(new Row(OperatorRegistry.getName(operator), Converter.formatValue(operand1), operand2Text,
+                    Converter.formatValue(value), this.operandStack));
+        }
+    }
+
+    @Override
+    public void onEvaluationFinish(double result) {
+        flush();
+    }
+
+    /**
+     * Write the table recorded so far (if any) and everything still buffered
+     * Called automatically when a conversion or evaluation finishes; call it after
+     * an error to write the rows of the interrupted table
+     *
+     * @throws RuntimeException if writing to the sink fails
+     */
+    public void flush() {
+        try {
+            if (mode == CONVERSION) {
+                renderConversion();
+            } else if (mode == EVALUATION) {
+                renderEvaluation();
+            }
+            mode = NONE;
+            rows.clear();
+            writeBlock();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Start recording a table, first writing a table that was left unfinished
+     *
+     * @param kind CONVERSION or EVALUATION
+     */
+    private void startTable(int kind) {
+        if (mode != NONE) {
+            flush();
+        }
+        mode = kind;
+        rowCount = 0;
+    }
+
+    /**
+     * Count a row and decide whether to keep it
+     *
+     * @return true if the row is sampled and the row limit is not reached
+     */
+    private boolean keepRow() {
+        return rowCount++ % sampleInterval == 0 && rows.size() < maxRows;
+    }
+
+    /**
+     * Format the conversion table
+     * Algorithm:
+     * 1. Width pass: the Symbol column fits the longest symbol, the Postfix Expression
+     *    column the longest postfix prefix (the Operator Stack column is last and
+     *    needs no padding)
+     * 2. Append the header, the separator and every row, writing full blocks as
+     *    they fill up
+     *
+     * @throws IOException if writing fails
+     */
+    private void renderConversion() throws IOException {
+        int symbolWidth = MIN_SYMBOL_WIDTH;
+        int postfixWidth = Math.max(POSTFIX_HEADER.length(), conversionFinished ? postfixText.length() : 0);
+        for (Row row : rows) {
+            symbolWidth = Math.max(symbolWidth, row.symbol.length() + 1);
+            postfixWidth = Math.max(postfixWidth, row.postfixLength);
+        }
+
+        appendCell("Symbol", symbolWidth);
+        block.append("| ");
+        appendCell(POSTFIX_HEADER, postfixWidth);
+        block.append(" | Operator Stack\n");
+        appendSeparator(symbolWidth + postfixWidth + 20);
+
+        for (Row row : rows) {
+            appendConversionRow(row.symbol, row.postfixLength, row.operators, symbolWidth, postfixWidth);
+        }
+        appendOmittedRows();
+        if (conversionFinished) {
+            appendConversionRow("", postfixText.length(), PersistentStack.empty(), symbolWidth, postfixWidth);
+        }
+    }
+
+    /**
+     * Append one row of the conversion table
+     *
+     * @param symbol Symbol column
+     * @param postfixLength Length of the postfix prefix shown in the Postfix Expression column
+     * @param operators Operator stack shown in the Operator Stack column
+     * @param symbolWidth Width of the Symbol column
+     * @param postfixWidth Width of the Postfix Expression column
+     * @throws IOException if writing fails
+     */
+    private void appendConversionRow(String symbol, int postfixLength, PersistentStack<Character> operators,
+                                     int symbolWidth, int postfixWidth) throws IOException {
+        appendCell(symbol, symbolWidth);
+        block.append("| ");
+        int start = block.length();
+        block.append(postfixText, 0, postfixLength);
+        pad(start, postfixWidth);
+        block.append(" | ");
+        operators.appendTo(block, "", OperatorRegistry::getName);
+        block.append('\n');
+        writeBlockIfFull();
+    }
+
+    /**
+     * Format the evaluation table
+     * Algorithm:
+     * 1. Width pass: each of the Symbol, Operand1, Operand2 and Value columns fits
+     *    its longest entry (the Stack column is last and needs no padding)
+     * 2. Append the header, the separator and every row, writing full blocks as
+     *    they fill up
+     *
+     * @throws IOException if writing fails
+     */
+    private void renderEvaluation() throws IOException {
+        int symbolWidth = MIN_SYMBOL_WIDTH;
+        int operand1Width = MIN_OPERAND_WIDTH;
+        int operand2Width = MIN_OPERAND_WIDTH;
+        int valueWidth = MIN_OPERAND_WIDTH;
+        for (Row row : rows) {
+            symbolWidth = Math.max(symbolWidth, row.symbol.length() + 1);
+            operand1Width = Math.max(operand1Width, row.operand1.length() + 1);
+            operand2Width = Math.max(operand2Width, row.operand2.length() + 1);
+            valueWidth = Math.max(valueWidth, row.value.length() + 1);
+        }
+
+        appendCell("Symbol", symbolWidth);
+        block.append("| ");
+        appendCell("Operand1", operand1Width);
+        block.append("| ");
+        appendCell("Operand2", operand2Width);
+        block.append("| ");
+        appendCell("Value", valueWidth);
+        block.append("| Stack\n");
+        appendSeparator(symbolWidth + operand1Width + operand2Width + valueWidth + 22);
+
+        for (Row row : rows) {
+            appendCell(row.symbol, symbolWidth);
+            block.append("| ");
+            appendCell(row.operand1, operand1Width);
+            block.append("| ");
+            appendCell(row.operand2, operand2Width);
+            block.append("| ");
+            appendCell(row.value, valueWidth);
+            block.append("| ");
+            row.operands.appendTo(block, " ", Converter::formatValue);
+            block.append('\n');
+            writeBlockIfFull();
+        }
+        appendOmittedRows();
+    }
+
+    /**
+     * Append a line saying how many rows were left out, if any
+     */
+    private void appendOmittedRows() {
+        long omitted = rowCount - rows.size();
+        if (omitted > 0) {
+            block.append("... ").append(omitted).append(" of ").append(rowCount).append(" rows not shown\n");
+        }
+    }
+
+    /**
+     * Append text left-aligned in a column
+     *
+     * @param text The cell text
+     * @param width Column width
+     */
+    private void appendCell(String text, int width) {
+        int start = block.length();
+        block.append(text);
+        pad(start, width);
+    }
+
+    /**
+     * Pad the cell that starts at the given position with spaces up to the column width
+     *
+     * @param start Position of the cell in the block
+     * @param width Column width
+     */
+    private void pad(int start, int width) {
+        for (int i = block.length() - start; i < width; i++) {
+            block.append(' ');
+        }
+    }
+
+    /**
+     * Append a horizontal table separator
+     *
+     * @param width Number of dashes
+     */
+    private void appendSeparator(int width) {
+        for (int i = 0; i < width; i++) {
+            block.append('-');
+        }
+        block.append('\n');
+    }
+
+    /**
+     * Write the block once it has reached BLOCK_SIZE characters
+     *
+     * @throws IOException if writing fails
+     */
+    private void writeBlockIfFull() throws IOException {
+        if (block.length() >= BLOCK_SIZE) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Encode the block to UTF-8 through the reusable byte buffer and write it
+     *
+     * @throws IOException if writing fails
+     */
+    private void writeBlock() throws IOException {
+        if (block.length() == 0) {
+            return;
+        }
+        CharBuffer chars = CharBuffer.wrap(block);
+        encoder.reset();
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, bytes, true);
+            if (result.isUnderflow()) {
+                result = encoder.flush(bytes);
+            }
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                sink.write(bytes);
+            }
+            bytes.clear();
+        } while (result.isOverflow());
+        block.setLength(0);
+    }
+
+    /**
+     * One recorded table row
+     * Conversion rows use postfixLength and operators, evaluation rows the three
+     * value columns and operands
+     */
+    private static final class Row {
+        private final String symbol;
+        private final int postfixLength;
+        private final String operand1;
+        private final String operand2;
+        private final String value;
+        private final PersistentStack<Character> operators;
+        private final PersistentStack<Double> operands;
+
+        Row(String symbol, int postfixLength, PersistentStack<Character> operators,
+            PersistentStack<Double> operands) {
+            this(symbol, postfixLength, "", "", "", operators, operands);
+        }
+
+        Row(String symbol, String operand1, String operand2, String value, PersistentStack<Double> operands) {
+            this(symbol, 0, operand1, operand2, value, null, operands);
+        }
+
+        private Row(String symbol, int postfixLength, String operand1, String operand2, String value,
+                    PersistentStack<Character> operators, PersistentStack<Double> operands) {
+            this.symbol = symbol;
+            this.postfixLength = postfixLength;
+            this.operand1 = operand1;
+            this.operand2 = operand2;
+            this.value = value;
+            this.operators = operators;
+            this.operands = operands;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar
+ * Accepts the usual JMH command line options and always enables the GC profiler,
+ * so every run reports allocation rate (gc.alloc.rate.norm) next to the timings.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+public final class BenchmarkMain {
+
+    /**
+     * Private constructor - static members only
+     */
+    private BenchmarkMain() {
+    }
+
+    /**
+     * Run the selected benchmarks
+     *
+     * @param args JMH command line options (for example a benchmark name regex)
+     * @throws Exception if the options are invalid or a benchmark fails
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
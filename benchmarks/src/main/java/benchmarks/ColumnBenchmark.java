@@ -0,0 +1,79 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of evaluating one formula over columns of rows
+ * Compares ColumnEvaluator.evaluateColumns with calling CompiledExpression.evaluate
+ * once per row. The forked JVM gets the jdk.incubator.vector module, so the vector
+ * kernel is used unless -jvmArgsAppend -Dconverter.vector.disable=true is given.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class ColumnBenchmark {
+
+    private static final String FORMULA = "(A+B)*(A-C)/(B+2) - C*C + (A+B)*3";
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Object expression;
+    private double[][] columns;
+    private double[] out;
+    private double[] bindings;
+    private double[] stack;
+
+    @Setup
+    public void setup() throws Throwable {
+        expression = (Object) Core.COMPILE.invokeExact(FORMULA);
+        int variables = (int) Core.VARIABLE_COUNT.invokeExact(expression);
+        Random random = new Random(42);
+        columns = new double[variables][rows];
+        for (double[] column : columns) {
+            for (int i = 0; i < rows; i++) {
+                column[i] = 1 + random.nextDouble() * 100;
+            }
+        }
+        out = new double[rows];
+        bindings = new double[variables];
+        stack = new double[(int) Core.WORKSPACE_SIZE.invokeExact(expression)];
+    }
+
+    @Benchmark
+    public double[] columns() throws Throwable {
+        Core.EVALUATE_COLUMNS.invokeExact(expression, columns, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] perRow() throws Throwable {
+        for (int row = 0; row < rows; row++) {
+            for (int slot = 0; slot < bindings.length; slot++) {
+                bindings[slot] = columns[slot][row];
+            }
+            out[row] = (double) Core.EVALUATE_COMPILED.invokeExact(expression, bindings, stack);
+        }
+        return out;
+    }
+}
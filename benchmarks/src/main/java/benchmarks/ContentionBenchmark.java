@@ -0,0 +1,84 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Contention benchmarks of one stack shared by all benchmark threads
+ * Compares the lock-free ConcurrentStack with a Stack guarded by a synchronized
+ * wrapper. Every push is paired with a pop, and the stack is pre-filled with more
+ * elements than there are threads, so a pop never finds it empty.
+ *
+ * Run at increasing thread counts with JMH's -t option, for example:
+ * for t in 1 2 4 8; do java -jar benchmarks.jar ContentionBenchmark -t $t; done
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentionBenchmark {
+
+    private static final int PREFILL = 1024;
+
+    private Object concurrentStack;
+    private SynchronizedStack synchronizedStack;
+    private final Object element = "A";
+
+    @Setup
+    public void setup() throws Throwable {
+        concurrentStack = (Object) Core.NEW_CONCURRENT_STACK.invokeExact();
+        synchronizedStack = new SynchronizedStack();
+        for (int i = 0; i < PREFILL; i++) {
+            Core.CONCURRENT_STACK_PUSH.invokeExact(concurrentStack, element);
+            synchronizedStack.push(element);
+        }
+    }
+
+    @Benchmark
+    public Object concurrentPushPop() throws Throwable {
+        Core.CONCURRENT_STACK_PUSH.invokeExact(concurrentStack, element);
+        return (Object) Core.CONCURRENT_STACK_POP.invokeExact(concurrentStack);
+    }
+
+    @Benchmark
+    public Object synchronizedPushPop() throws Throwable {
+        synchronizedStack.push(element);
+        return synchronizedStack.pop();
+    }
+
+    /**
+     * Stack wrapper that holds its monitor for every operation
+     */
+    static final class SynchronizedStack {
+
+        private final Object stack;
+
+        SynchronizedStack() throws Throwable {
+            this.stack = (Object) Core.NEW_STACK.invokeExact();
+        }
+
+        synchronized void push(Object data) throws Throwable {
+            Core.STACK_PUSH.invokeExact(stack, data);
+        }
+
+        synchronized Object pop() throws Throwable {
+            return (Object) Core.STACK_POP.invokeExact(stack);
+        }
+    }
+}
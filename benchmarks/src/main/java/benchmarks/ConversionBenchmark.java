@@ -0,0 +1,55 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of infix to postfix conversion and postfix evaluation
+ * at several expression sizes (number of tokens). Conversion bypasses the
+ * expression cache so that every invocation runs the full algorithm.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    @Param({"10", "1000", "1000000"})
+    public int tokens;
+
+    private String infix;
+    private String postfix;
+
+    @Setup
+    public void setup() {
+        infix = Expressions.infix(tokens);
+        postfix = Expressions.postfix(tokens);
+    }
+
+    @Benchmark
+    public String convertInfixToPostfix() throws Throwable {
+        return (String) Core.CONVERT.invokeExact(infix);
+    }
+
+    @Benchmark
+    public double evaluatePostfix() throws Throwable {
+        return (double) Core.EVALUATE.invokeExact(postfix);
+    }
+}
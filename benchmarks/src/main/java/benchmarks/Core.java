@@ -0,0 +1,117 @@
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Method handles for the expression converter classes
+ * The converter classes live in the default package, which code in a named package
+ * cannot import, and JMH does not accept benchmark classes in the default package.
+ * The benchmarks therefore call the converter through static final method handles,
+ * which the JIT treats as constants and inlines like direct calls.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+final class Core {
+
+    // Stack<T>
+    static final MethodHandle NEW_STACK;          // () -> Object
+    static final MethodHandle NEW_RECYCLING_STACK; // (int maxFreeNodes) -> Object
+    static final MethodHandle STACK_PUSH;         // (Object stack, Object data) -> void
+    static final MethodHandle STACK_POP;          // (Object stack) -> Object
+    static final MethodHandle STACK_PEEK;         // (Object stack) -> Object
+
+    // ConcurrentStack<T>
+    static final MethodHandle NEW_CONCURRENT_STACK;   // () -> Object
+    static final MethodHandle CONCURRENT_STACK_PUSH;  // (Object stack, Object data) -> void
+    static final MethodHandle CONCURRENT_STACK_POP;   // (Object stack) -> Object
+
+    // Converter
+    static final MethodHandle GET_PRECEDENCE;     // (char) -> int
+    static final MethodHandle PERFORM_OPERATION;  // (double, double, char) -> double
+    static final MethodHandle CONVERT;            // (String infix) -> String, without cache or table
+    static final MethodHandle EVALUATE;           // (String postfix) -> double, without table
+
+    // ParallelEvaluator
+    static final MethodHandle NEW_PARALLEL_EVALUATOR;  // () -> Object
+    static final MethodHandle PARALLEL_EVALUATE;       // (Object evaluator, String postfix) -> double
+
+    // CompiledExpression and ColumnEvaluator
+    static final MethodHandle COMPILE;            // (String infix) -> Object
+    static final MethodHandle VARIABLE_COUNT;     // (Object expression) -> int
+    static final MethodHandle WORKSPACE_SIZE;     // (Object expression) -> int
+    static final MethodHandle EVALUATE_COMPILED;  // (Object expression, double[] bindings, double[] stack) -> double
+    static final MethodHandle EVALUATE_COLUMNS;   // (Object expression, double[][] columns, double[] out) -> void
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            Class<?> stack = Class.forName("Stack");
+            NEW_STACK = lookup.findConstructor(stack, methodType(void.class))
+                    .asType(methodType(Object.class));
+            NEW_RECYCLING_STACK = lookup.findConstructor(stack, methodType(void.class, int.class))
+                    .asType(methodType(Object.class, int.class));
+            STACK_PUSH = lookup.findVirtual(stack, "push", methodType(void.class, Object.class))
+                    .asType(methodType(void.class, Object.class, Object.class));
+            STACK_POP = lookup.findVirtual(stack, "pop", methodType(Object.class))
+                    .asType(methodType(Object.class, Object.class));
+            STACK_PEEK = lookup.findVirtual(stack, "peek", methodType(Object.class))
+                    .asType(methodType(Object.class, Object.class));
+
+            Class<?> concurrentStack = Class.forName("ConcurrentStack");
+            NEW_CONCURRENT_STACK = lookup.findConstructor(concurrentStack, methodType(void.class))
+                    .asType(methodType(Object.class));
+            CONCURRENT_STACK_PUSH = lookup.findVirtual(concurrentStack, "push",
+                            methodType(void.class, Object.class))
+                    .asType(methodType(void.class, Object.class, Object.class));
+            CONCURRENT_STACK_POP = lookup.findVirtual(concurrentStack, "pop", methodType(Object.class))
+                    .asType(methodType(Object.class, Object.class));
+
+            Class<?> converter = Class.forName("Converter");
+            Class<?> conversionListener = Class.forName("ConversionTraceListener");
+            Object noOpListener = Class.forName("NoOpTraceListener").getField("INSTANCE").get(null);
+            GET_PRECEDENCE = lookup.findStatic(converter, "getPrecedence",
+                    methodType(int.class, char.class));
+            PERFORM_OPERATION = lookup.findStatic(converter, "performOperation",
+                    methodType(double.class, double.class, double.class, char.class));
+            CONVERT = MethodHandles.insertArguments(lookup.findStatic(converter, "convertInfixToPostfix",
+                    methodType(String.class, String.class, conversionListener)), 1, noOpListener);
+            EVALUATE = lookup.findStatic(converter, "evaluatePostfix",
+                    methodType(double.class, String.class));
+
+            Class<?> parallelEvaluator = Class.forName("ParallelEvaluator");
+            NEW_PARALLEL_EVALUATOR = lookup.findConstructor(parallelEvaluator, methodType(void.class))
+                    .asType(methodType(Object.class));
+            PARALLEL_EVALUATE = lookup.findVirtual(parallelEvaluator, "evaluate",
+                            methodType(double.class, String.class))
+                    .asType(methodType(double.class, Object.class, String.class));
+
+            Class<?> compiled = Class.forName("CompiledExpression");
+            COMPILE = lookup.findStatic(compiled, "compile", methodType(compiled, String.class))
+                    .asType(methodType(Object.class, String.class));
+            VARIABLE_COUNT = lookup.findVirtual(compiled, "getVariableCount", methodType(int.class))
+                    .asType(methodType(int.class, Object.class));
+            WORKSPACE_SIZE = lookup.findVirtual(compiled, "getWorkspaceSize", methodType(int.class))
+                    .asType(methodType(int.class, Object.class));
+            EVALUATE_COMPILED = lookup.findVirtual(compiled, "evaluate",
+                            methodType(double.class, double[].class, double[].class))
+                    .asType(methodType(double.class, Object.class, double[].class, double[].class));
+            EVALUATE_COLUMNS = lookup.findStatic(Class.forName("ColumnEvaluator"), "evaluateColumns",
+                            methodType(void.class, compiled, double[][].class, double[].class))
+                    .asType(methodType(void.class, Object.class, double[][].class, double[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Private constructor - static members only
+     */
+    private Core() {
+    }
+}
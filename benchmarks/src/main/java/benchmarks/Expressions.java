@@ -0,0 +1,99 @@
+package benchmarks;
+
+/**
+ * Generators for benchmark input expressions of a given number of tokens
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+final class Expressions {
+
+    private static final char[] OPERATORS = {'+', '-', '*', '/'};
+
+    /**
+     * Private constructor - static members only
+     */
+    private Expressions() {
+    }
+
+    /**
+     * Build an infix expression such as "A+B-C*D/E" with about the given number of tokens
+     * Every fourth operand group is parenthesized so the operator stack sees '(' and ')'
+     *
+     * @param tokens Approximate number of operand and operator tokens
+     * @return The infix expression
+     */
+    static String infix(int tokens) {
+        int operands = Math.max(2, (tokens + 1) / 2);
+        StringBuilder builder = new StringBuilder(tokens * 2);
+        for (int i = 0; i < operands; i++) {
+            if (i > 0) {
+                builder.append(OPERATORS[i % OPERATORS.length]);
+            }
+            if (i % 4 == 1 && i + 1 < operands) {
+                builder.append('(').append((char) ('A' + i % 26)).append('+');
+                i++;
+                builder.append((char) ('A' + i % 26)).append(')');
+            } else {
+                builder.append((char) ('A' + i % 26));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Build a postfix expression such as "1 2 + 3 - 4 * 5 /" with about the given number of tokens
+     * Operands are the digits 1-9 so that no division by zero can occur
+     *
+     * @param tokens Approximate number of operand and operator tokens
+     * @return The postfix expression (space-separated)
+     */
+    static String postfix(int tokens) {
+        int operands = Math.max(2, (tokens + 1) / 2);
+        StringBuilder builder = new StringBuilder(tokens * 2);
+        builder.append('1');
+        for (int i = 1; i < operands; i++) {
+            builder.append(' ').append((char) ('1' + i % 9))
+                    .append(' ').append(OPERATORS[i % OPERATORS.length]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Build a balanced postfix expression tree such as "1 2 + 3 4 - *" with about the
+     * given number of tokens
+     * Only +, - and * are used, because a subtree of a balanced tree may evaluate to 0
+     *
+     * @param tokens Approximate number of operand and operator tokens
+     * @return The postfix expression (space-separated)
+     */
+    static String balancedPostfix(int tokens) {
+        int operands = Math.max(2, (tokens + 1) / 2);
+        StringBuilder builder = new StringBuilder(tokens * 2);
+        appendBalanced(builder, 0, operands, 0);
+        return builder.toString();
+    }
+
+    /**
+     * Append the postfix form of a balanced tree over a range of operands
+     *
+     * @param builder Builder to append to
+     * @param first Index of the first operand
+     * @param count Number of operands
+     * @param depth Depth of the subtree root (chooses the operator)
+     */
+    private static void appendBalanced(StringBuilder builder, int first, int count, int depth) {
+        if (count == 1) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append((char) ('1' + first % 9));
+            return;
+        }
+        int half = count / 2;
+        appendBalanced(builder, first, half, depth + 1);
+        appendBalanced(builder, first + half, count - half, depth + 1);
+        builder.append(' ').append(OPERATORS[depth % 3]);
+    }
+}
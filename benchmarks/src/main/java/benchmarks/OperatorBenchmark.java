@@ -0,0 +1,52 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of Converter.getPrecedence and Converter.performOperation
+ * The operator cycles through all supported operators so that the switch
+ * cannot be specialized for a single case.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OperatorBenchmark {
+
+    private static final char[] OPERATORS = {'+', '-', '*', '/', '^'};
+
+    private int index;
+    private double operand1 = 7.5;
+    private double operand2 = 2.0;
+
+    private char nextOperator() {
+        index = (index + 1) % OPERATORS.length;
+        return OPERATORS[index];
+    }
+
+    @Benchmark
+    public int getPrecedence() throws Throwable {
+        return (int) Core.GET_PRECEDENCE.invokeExact(nextOperator());
+    }
+
+    @Benchmark
+    public double performOperation() throws Throwable {
+        return (double) Core.PERFORM_OPERATION.invokeExact(operand1, operand2, nextOperator());
+    }
+}
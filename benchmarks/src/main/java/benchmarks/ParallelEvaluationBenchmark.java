@@ -0,0 +1,55 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of ParallelEvaluator against Converter.evaluatePostfix on balanced
+ * expression trees. At 1000 tokens ParallelEvaluator takes its sequential path, so
+ * the two should match; the large sizes show the speedup on the common pool.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelEvaluationBenchmark {
+
+    @Param({"1000", "1000000", "4000000"})
+    public int tokens;
+
+    private String postfix;
+    private Object evaluator;
+
+    @Setup
+    public void setup() throws Throwable {
+        postfix = Expressions.balancedPostfix(tokens);
+        evaluator = (Object) Core.NEW_PARALLEL_EVALUATOR.invokeExact();
+    }
+
+    @Benchmark
+    public double sequential() throws Throwable {
+        return (double) Core.EVALUATE.invokeExact(postfix);
+    }
+
+    @Benchmark
+    public double parallel() throws Throwable {
+        return (double) Core.PARALLEL_EVALUATE.invokeExact(evaluator, postfix);
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the linked Stack push, pop and peek operations
+ * The stack is pre-filled to the given depth and every push is paired with a pop,
+ * so the depth stays constant during the measurement.
+ *
+ * maxFreeNodes is the Stack free-list capacity: 0 allocates a node on every push,
+ * a positive value recycles popped nodes. Compare gc.alloc.rate.norm between the two.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackBenchmark {
+
+    @Param({"10", "1000"})
+    public int depth;
+
+    @Param({"0", "1024"})
+    public int maxFreeNodes;
+
+    private Object stack;
+    private final Object element = "A";
+
+    @Setup
+    public void setup() throws Throwable {
+        stack = (Object) Core.NEW_RECYCLING_STACK.invokeExact(maxFreeNodes);
+        for (int i = 0; i < depth; i++) {
+            Core.STACK_PUSH.invokeExact(stack, element);
+        }
+    }
+
+    @Benchmark
+    public Object pushPop() throws Throwable {
+        Core.STACK_PUSH.invokeExact(stack, element);
+        return (Object) Core.STACK_POP.invokeExact(stack);
+    }
+
+    @Benchmark
+    public Object peek() throws Throwable {
+        return (Object) Core.STACK_PEEK.invokeExact(stack);
+    }
+}
@@ -0,0 +1,129 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConcurrentStackTest class - tests for ConcurrentStack under concurrent use
+ * Several threads push distinct values and pop them again, all starting at the same
+ * moment. Every value pushed must be popped exactly once, whether it went through
+ * the top of the stack or was handed over through the elimination array, and the
+ * stack must be empty with size 0 afterwards.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+class ConcurrentStackTest {
+
+    // At least two threads per processor, so on a multi-core machine compare-and-set
+    // failures, and with them hand-overs through the elimination array, are frequent
+    private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int VALUES_PER_THREAD = 50_000;
+
+    /**
+     * Body of one test thread
+     */
+    private interface Worker {
+        /**
+         * Push and pop the values of one thread
+         *
+         * @param thread Index of the thread; its values are thread * VALUES_PER_THREAD + i
+         * @param popped Receives every value the thread popped
+         */
+        void run(int thread, int[] popped);
+    }
+
+    /**
+     * Run a worker on every thread at once and check that every value was popped exactly once
+     *
+     * @param stack The stack shared by the threads
+     * @param worker The work of each thread
+     * @throws Exception if a thread failed or did not finish in time
+     */
+    private static void runAndCheck(ConcurrentStack<Integer> stack, Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    int[] popped = new int[VALUES_PER_THREAD];
+                    start.await();
+                    worker.run(thread, popped);
+                    return popped;
+                }));
+            }
+            start.countDown();
+
+            int[] timesPopped = new int[THREADS * VALUES_PER_THREAD];
+            for (Future<int[]> result : results) {
+                for (int value : result.get(60, TimeUnit.SECONDS)) {
+                    timesPopped[value]++;
+                }
+            }
+            for (int value = 0; value < timesPopped.length; value++) {
+                assertEquals(1, timesPopped[value], "times value " + value + " was popped");
+            }
+            assertTrue(stack.isEmpty());
+            assertEquals(0, stack.size());
+            assertThrows(RuntimeException.class, stack::pop);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void pushPopPairsUnderHeavyContention() throws Exception {
+        // Each thread pops right after every push, so the stack is never empty when a
+        // pop starts and the top is fought over on every operation
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+        runAndCheck(stack, (thread, popped) -> {
+            for (int i = 0; i < VALUES_PER_THREAD; i++) {
+                stack.push(thread * VALUES_PER_THREAD + i);
+                popped[i] = stack.pop();
+            }
+        });
+    }
+
+    @Test
+    void burstsOfPushesAndPops() throws Exception {
+        // Each thread pushes a burst, then pops as many values as it pushed
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+        int burst = 100;
+        runAndCheck(stack, (thread, popped) -> {
+            for (int i = 0; i < VALUES_PER_THREAD; i += burst) {
+                for (int j = i; j < i + burst; j++) {
+                    stack.push(thread * VALUES_PER_THREAD + j);
+                }
+                for (int j = i; j < i + burst; j++) {
+                    popped[j] = stack.pop();
+                }
+            }
+        });
+    }
+
+    @Test
+    void keepsOrderWithoutContention() {
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+        for (int i = 1; i <= 3; i++) {
+            stack.push(i);
+        }
+        assertEquals(3, stack.size());
+        assertEquals(3, stack.peek());
+        assertEquals(2, stack.search(2));
+        assertEquals(3, stack.pop());
+        assertEquals(2, stack.pop());
+        assertEquals(1, stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+}
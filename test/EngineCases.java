@@ -0,0 +1,170 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.function.DoubleSupplier;
+
+/**
+ * EngineCases class - expressions and bindings shared by the engine tests
+ * Every engine (optimizer, bytecode JIT, incremental and parallel evaluation) is
+ * checked against Converter.evaluatePostfix on the same expressions: the result must
+ * be the same double bit for bit (so -0.0 is not 0.0), and an expression that fails
+ * must fail with the same reason.
+ *
+ * The expressions use the variables A, B and C. The reference result is computed by
+ * writing each bound value into the infix expression as a constant subexpression
+ * (for example -4 becomes (0-4) and -0.0 becomes ((0-1)*0)) and evaluating its
+ * postfix form with Converter.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+final class EngineCases {
+
+    // Infix expressions over A, B and C: precedence and associativity (^ is
+    // right-associative), identities that are and are not safe for -0.0, constant
+    // folding, division by zero, common subexpressions and functions
+    static final String[] EXPRESSIONS = {
+        "A + B * C",
+        "(A + B) * C",
+        "A - B - C",
+        "A / B / C",
+        "A ^ B ^ C",
+        "2 ^ 3 ^ 2",
+        "((A - (B + C)) * 2) ^ (C + 1)",
+        "A + 0",
+        "0 + A",
+        "A - 0",
+        "A * 1",
+        "1 * A",
+        "A / 1",
+        "A ^ 1",
+        "A * 0",
+        "A - (0 - 1) * 0",
+        "(2 + 3) * A",
+        "1 / 0 + A",
+        "0 / 0",
+        "A / B",
+        "A / (B - B)",
+        "(A + B) * (A + B) + (A + B)",
+        "A * B + A * B * C - A * B / C",
+        "max(A, B) * min(A, C) + sqrt(B)",
+        "sqrt(A) + max(B, 2 ^ C)",
+        "min(A / B, C)"
+    };
+
+    // Values of A, B and C
+    static final double[][] BINDINGS = {
+        {3, 2, 0.5},
+        {-0.0, 0.0, 1},
+        {-4, 0, 2.5},
+        {0.5, -0.0, -0.0}
+    };
+
+    /**
+     * Private constructor - static members only
+     */
+    private EngineCases() {
+    }
+
+    /**
+     * Get the postfix form of an infix expression as Converter produces it
+     *
+     * @param infixExpression The infix expression
+     * @return The postfix expression
+     */
+    static String postfix(String infixExpression) {
+        ExpressionResult conversion = Converter.tryConvertInfixToPostfix(infixExpression);
+        assertTrue(conversion.isValid(), () -> infixExpression + ": " + conversion.getErrorMessage());
+        return conversion.getPostfix();
+    }
+
+    /**
+     * Replace the variables of an infix expression with constant subexpressions
+     *
+     * @param infixExpression The infix expression over A, B and C
+     * @param values Values of A, B and C
+     * @return An infix expression without variables
+     */
+    static String substitute(String infixExpression, double[] values) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < infixExpression.length(); i++) {
+            char ch = infixExpression.charAt(i);
+            boolean variable = ch >= 'A' && ch <= 'C'
+                    && (i == 0 || !Character.isLetter(infixExpression.charAt(i - 1)))
+                    && (i + 1 == infixExpression.length() || !Character.isLetter(infixExpression.charAt(i + 1)));
+            result.append(variable ? constant(values[ch - 'A']) : String.valueOf(ch));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Write a value as an infix subexpression that evaluates to exactly that value
+     *
+     * @param value The value
+     * @return The subexpression
+     */
+    private static String constant(double value) {
+        if (Double.doubleToRawLongBits(value) == Double.doubleToRawLongBits(-0.0)) {
+            return "((0-1)*0)";
+        }
+        String magnitude = BigDecimal.valueOf(Math.abs(value)).toPlainString();
+        return value < 0 ? "(0-" + magnitude + ")" : magnitude;
+    }
+
+    /**
+     * Evaluate an expression with Converter (the reference for every engine)
+     *
+     * @param infixExpression The infix expression over A, B and C
+     * @param values Values of A, B and C
+     * @return The value, or the reason of the error
+     */
+    static ExpressionResult reference(String infixExpression, double[] values) {
+        return Converter.tryEvaluatePostfix(postfix(substitute(infixExpression, values)));
+    }
+
+    /**
+     * Arrange the values of A, B and C in the slot order of a compiled expression
+     *
+     * @param expression The compiled expression
+     * @param values Values of A, B and C
+     * @return Bindings indexed by slot
+     */
+    static double[] bind(CompiledExpression expression, double[] values) {
+        double[] bindings = new double[expression.getVariableCount()];
+        for (int slot = 0; slot < bindings.length; slot++) {
+            bindings[slot] = values[expression.getVariable(slot).charAt(0) - 'A'];
+        }
+        return bindings;
+    }
+
+    /**
+     * Check that an engine gives the reference result: the same value bit for bit,
+     * or a RuntimeException with the same reason
+     *
+     * @param expected The reference result
+     * @param actual Runs the engine
+     * @param description Expression and bindings, for the failure message
+     */
+    static void assertSameResult(ExpressionResult expected, DoubleSupplier actual, String description) {
+        if (expected.isValid()) {
+            assertEquals(expected.getValue(), actual.getAsDouble(), description);
+        } else {
+            RuntimeException e = assertThrows(RuntimeException.class, actual::getAsDouble, description);
+            assertEquals(expected.getErrorReason(), e.getMessage(), description);
+        }
+    }
+
+    /**
+     * Describe a test case for failure messages
+     *
+     * @param infixExpression The infix expression
+     * @param values Values of A, B and C
+     * @return e.g. "A + 0 with A=-0.0, B=0.0, C=1.0"
+     */
+    static String describe(String infixExpression, double[] values) {
+        return infixExpression + " with A=" + values[0] + ", B=" + values[1] + ", C=" + values[2];
+    }
+}
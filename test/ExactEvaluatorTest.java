@@ -0,0 +1,80 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ExactEvaluatorTest class - tests for ExactEvaluator
+ * Integer expressions stay in long and give a Long; a step that is not exact in
+ * long (overflow, a division with a remainder, Long.MIN_VALUE / -1) moves the
+ * evaluation to BigDecimal, and only non-terminating divisions are rounded to the
+ * MathContext.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+class ExactEvaluatorTest {
+
+    // Long.MIN_VALUE has no literal of its own: 0 - Long.MAX_VALUE - 1
+    private static final String LONG_MIN_VALUE = "0 9223372036854775807 - 1 -";
+
+    @Test
+    void integerExpressionsGiveLongs() {
+        ExactEvaluator evaluator = new ExactEvaluator();
+        assertEquals(Long.valueOf(14), evaluator.evaluate("2 3 4 * +"));
+        assertEquals(Long.valueOf(3), evaluator.evaluate("6 2 /"));
+        assertEquals(Long.valueOf(1024), evaluator.evaluate("2 10 ^"));
+        assertEquals(Long.valueOf(-1), evaluator.evaluate("2 3 -"));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), evaluator.evaluate(LONG_MIN_VALUE));
+    }
+
+    @Test
+    void overflowContinuesInBigDecimal() {
+        ExactEvaluator evaluator = new ExactEvaluator();
+        assertEquals(new BigDecimal("9223372036854775808"), evaluator.evaluate("9223372036854775807 1 +"));
+        assertEquals(new BigDecimal("-9223372036854775809"), evaluator.evaluate(LONG_MIN_VALUE + " 1 -"));
+        assertEquals(new BigDecimal("85070591730234615847396907784232501249"),
+                evaluator.evaluate("9223372036854775807 9223372036854775807 *"));
+        assertEquals(new BigDecimal("18446744073709551616"), evaluator.evaluate("2 64 ^"));
+        // Operators after the switch to BigDecimal are exact as well
+        assertEquals(new BigDecimal("9223372036854775807"), evaluator.evaluate("9223372036854775807 1 + 1 -"));
+    }
+
+    @Test
+    void longMinValueDividedByMinusOne() {
+        ExactEvaluator evaluator = new ExactEvaluator();
+        assertEquals(new BigDecimal("9223372036854775808"), evaluator.evaluate(LONG_MIN_VALUE + " 0 1 - /"));
+    }
+
+    @Test
+    void terminatingDivisionsAreExact() {
+        ExactEvaluator evaluator = new ExactEvaluator(new MathContext(3));
+        assertEquals(new BigDecimal("3.5"), evaluator.evaluate("7 2 /"));
+        assertEquals(new BigDecimal("0.0009765625"), evaluator.evaluate("1 1024 /"));
+        assertEquals(new BigDecimal("0.3"), evaluator.evaluate("0.1 0.2 +"));
+    }
+
+    @Test
+    void nonTerminatingDivisionsAreRoundedToTheMathContext() {
+        BigDecimal oneThird = new BigDecimal("0." + "3".repeat(34));
+        assertEquals(MathContext.DECIMAL128, new ExactEvaluator().getMathContext());
+        assertEquals(oneThird, new ExactEvaluator().evaluate("1 3 /"));
+        assertEquals(new BigDecimal("0.66667"), new ExactEvaluator(new MathContext(5)).evaluate("2 3 /"));
+        // Only the division is rounded; the addition after it is exact
+        assertEquals(new BigDecimal("2.333"), new ExactEvaluator(new MathContext(3)).evaluate("1 3 / 2 +"));
+    }
+
+    @Test
+    void rejectsDivisionByZeroAndMalformedExpressions() {
+        ExactEvaluator evaluator = new ExactEvaluator();
+        assertEquals("Division by zero", assertThrows(RuntimeException.class,
+                () -> evaluator.evaluate("1 0 /")).getMessage());
+        assertEquals("Division by zero", assertThrows(RuntimeException.class,
+                () -> evaluator.evaluate("7 2 / 0 /")).getMessage());
+        assertThrows(RuntimeException.class, () -> evaluator.evaluate("1 +"));
+        assertThrows(RuntimeException.class, () -> evaluator.evaluate("1 2"));
+    }
+}
@@ -0,0 +1,68 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ExpressionJitTest class - tests for ExpressionJit and the switch to generated code
+ * The hidden classes generated for plain and optimized programs (with temporary
+ * slots) must give exactly the results of Converter.evaluatePostfix.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+class ExpressionJitTest {
+
+    @Test
+    void generatedCodeMatchesConverter() {
+        for (String infix : EngineCases.EXPRESSIONS) {
+            CompiledExpression program = CompiledExpression.compilePostfix(EngineCases.postfix(infix));
+            if (program.hasCalls()) {
+                continue;
+            }
+            CompiledExpression optimized = ExpressionOptimizer.optimize(program).getExpression();
+            for (CompiledExpression expression : new CompiledExpression[] {program, optimized}) {
+                ExpressionFunction function = ExpressionJit.compile(expression);
+                assertTrue(function.getClass().isHidden(), infix);
+                for (double[] values : EngineCases.BINDINGS) {
+                    double[] bindings = EngineCases.bind(expression, values);
+                    EngineCases.assertSameResult(EngineCases.reference(infix, values),
+                            () -> function.applyAsDouble(bindings), EngineCases.describe(infix, values));
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsFunctionCalls() {
+        CompiledExpression program = CompiledExpression.compilePostfix(EngineCases.postfix("max(A, B) + 1"));
+        assertThrows(UnsupportedOperationException.class, () -> ExpressionJit.compile(program));
+    }
+
+    @Test
+    void switchesToGeneratedCodeAtThreshold() {
+        int threshold = ExpressionJit.getThreshold();
+        try {
+            ExpressionJit.setThreshold(3);
+            CompiledExpression program = CompiledExpression.compilePostfix(EngineCases.postfix("A ^ B ^ C"));
+            double[] bindings = {2, 3, 2};
+            for (int i = 1; i <= 3; i++) {
+                assertFalse(program.isCompiledToBytecode(), "before evaluation " + i);
+                assertEquals(512.0, program.evaluate(bindings));
+            }
+            assertTrue(program.isCompiledToBytecode());
+            assertEquals(512.0, program.evaluate(bindings));
+
+            CompiledExpression calls = CompiledExpression.compilePostfix(EngineCases.postfix("max(A, B) + 1"));
+            for (int i = 0; i < 5; i++) {
+                assertEquals(4.0, calls.evaluate(new double[] {2, 3}));
+            }
+            assertFalse(calls.isCompiledToBytecode());
+        } finally {
+            ExpressionJit.setThreshold(threshold);
+        }
+    }
+}
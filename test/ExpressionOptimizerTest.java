@@ -0,0 +1,91 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ExpressionOptimizerTest class - tests for ExpressionOptimizer
+ * Optimized programs must give exactly the results of Converter.evaluatePostfix,
+ * and the folding, identity and common subexpression counters must match the
+ * rewrites that were made.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+class ExpressionOptimizerTest {
+
+    /**
+     * Optimize the program Converter produces for an infix expression
+     *
+     * @param infixExpression The infix expression
+     * @return The optimization result
+     */
+    private static OptimizationResult optimize(String infixExpression) {
+        return ExpressionOptimizer.optimize(CompiledExpression.compilePostfix(EngineCases.postfix(infixExpression)));
+    }
+
+    @Test
+    void optimizedExpressionsMatchConverter() {
+        for (String infix : EngineCases.EXPRESSIONS) {
+            CompiledExpression optimized = optimize(infix).getExpression();
+            for (double[] values : EngineCases.BINDINGS) {
+                double[] bindings = EngineCases.bind(optimized, values);
+                EngineCases.assertSameResult(EngineCases.reference(infix, values),
+                        () -> optimized.evaluate(bindings), EngineCases.describe(infix, values));
+            }
+        }
+    }
+
+    @Test
+    void foldsOperationsOnConstants() {
+        OptimizationResult result = optimize("(2 + 3) * A");
+        assertEquals(1, result.getConstantsFolded());
+        assertEquals(5, result.getInstructionsBefore());
+        assertEquals(3, result.getInstructionsAfter());
+        assertEquals(20.0, result.getExpression().evaluate(new double[] {4}));
+    }
+
+    @Test
+    void leavesDivisionByZeroForRunTime() {
+        OptimizationResult result = optimize("1 / 0 + A");
+        assertEquals(0, result.getConstantsFolded());
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> result.getExpression().evaluate(new double[] {1}));
+        assertEquals("Division by zero", e.getMessage());
+    }
+
+    @Test
+    void computesCommonSubexpressionsOnce() {
+        OptimizationResult result = optimize("(A + B) * (A + B) + (A + B)");
+        assertEquals(1, result.getSubexpressionsShared());
+        assertEquals(2, result.getReusesOfShared());
+        assertEquals(1, result.getExpression().getTempCount());
+        assertEquals(30.0, result.getExpression().evaluate(new double[] {2, 3}));
+    }
+
+    @Test
+    void appliesIdentitiesThatHoldForNegativeZero() {
+        for (String infix : new String[] {"A * 1", "1 * A", "A - 0", "A / 1", "A ^ 1"}) {
+            OptimizationResult result = optimize(infix);
+            assertEquals(1, result.getIdentitiesSimplified(), infix);
+            assertEquals(-0.0, result.getExpression().evaluate(new double[] {-0.0}), infix);
+        }
+    }
+
+    @Test
+    void keepsAdditionOfZero() {
+        for (String infix : new String[] {"A + 0", "0 + A", "A - (0 - 1) * 0"}) {
+            OptimizationResult result = optimize(infix);
+            assertEquals(0, result.getIdentitiesSimplified(), infix);
+            assertEquals(0.0, result.getExpression().evaluate(new double[] {-0.0}), infix);
+        }
+    }
+
+    @Test
+    void leavesFunctionCallsUnchanged() {
+        CompiledExpression program = CompiledExpression.compilePostfix(EngineCases.postfix("max(A, B) + 1 * 2"));
+        assertSame(program, ExpressionOptimizer.optimize(program).getExpression());
+    }
+}
@@ -0,0 +1,118 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * IncrementalEvaluatorTest class - tests for IncrementalEvaluator
+ * After any sequence of binding changes the value must be exactly what
+ * Converter.evaluatePostfix gives for the new bindings, and an update must only
+ * recompute the operations above the changed variables, stopping where a value
+ * does not change.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+class IncrementalEvaluatorTest {
+
+    /**
+     * Set every variable of the evaluator's expression from the values of A, B and C
+     *
+     * @param evaluator The evaluator
+     * @param values Values of A, B and C
+     */
+    private static void setAll(IncrementalEvaluator evaluator, double[] values) {
+        CompiledExpression expression = evaluator.getExpression();
+        double[] bindings = EngineCases.bind(expression, values);
+        for (int slot = 0; slot < bindings.length; slot++) {
+            evaluator.set(slot, bindings[slot]);
+        }
+    }
+
+    @Test
+    void updatesMatchConverter() {
+        for (String infix : EngineCases.EXPRESSIONS) {
+            CompiledExpression expression = Converter.compile(infix);
+            if (expression.hasCalls()) {
+                continue;
+            }
+            for (double[] initial : EngineCases.BINDINGS) {
+                ExpressionResult initialResult = EngineCases.reference(infix, initial);
+                double[] initialBindings = EngineCases.bind(expression, initial);
+                if (!initialResult.isValid()) {
+                    EngineCases.assertSameResult(initialResult,
+                            () -> new IncrementalEvaluator(expression, initialBindings).evaluate(),
+                            EngineCases.describe(infix, initial));
+                    continue;
+                }
+                IncrementalEvaluator evaluator = new IncrementalEvaluator(expression, initialBindings);
+                EngineCases.assertSameResult(initialResult, evaluator::evaluate, EngineCases.describe(infix, initial));
+                for (double[] update : EngineCases.BINDINGS) {
+                    setAll(evaluator, update);
+                    EngineCases.assertSameResult(EngineCases.reference(infix, update), evaluator::evaluate,
+                            EngineCases.describe(infix, update) + " after " + EngineCases.describe(infix, initial));
+                    setAll(evaluator, initial);
+                    EngineCases.assertSameResult(initialResult, evaluator::evaluate,
+                            EngineCases.describe(infix, initial) + " after " + EngineCases.describe(infix, update));
+                }
+            }
+        }
+    }
+
+    @Test
+    void recomputesOnlyOperationsAboveTheChange() {
+        IncrementalEvaluator evaluator = new IncrementalEvaluator(Converter.compile("(A + B) * (C + 1)"),
+                new double[] {1, 2, 3});
+        assertEquals(12.0, evaluator.evaluate());
+
+        evaluator.set("C", 4);
+        assertEquals(15.0, evaluator.evaluate());
+        assertEquals(2, evaluator.getLastRecomputedCount());
+
+        evaluator.set("A", 4);
+        evaluator.set("B", 5);
+        assertEquals(45.0, evaluator.evaluate());
+        assertEquals(2, evaluator.getLastRecomputedCount());
+
+        evaluator.set("A", 4);
+        assertEquals(45.0, evaluator.evaluate());
+        assertEquals(0, evaluator.getLastRecomputedCount());
+    }
+
+    @Test
+    void stopsWhereAValueDoesNotChange() {
+        IncrementalEvaluator evaluator = new IncrementalEvaluator(Converter.compile("A * 0 + B * C"),
+                new double[] {3, 2, 5});
+        assertEquals(10.0, evaluator.evaluate());
+
+        evaluator.set("A", 7);
+        assertEquals(10.0, evaluator.evaluate());
+        assertEquals(1, evaluator.getLastRecomputedCount());
+
+        // -7 * 0 is -0.0, which is a different value, so the change goes on
+        evaluator.set("A", -7);
+        assertEquals(10.0, evaluator.evaluate());
+        assertEquals(2, evaluator.getLastRecomputedCount());
+    }
+
+    @Test
+    void recoversAfterDivisionByZero() {
+        IncrementalEvaluator evaluator = new IncrementalEvaluator(Converter.compile("A / B + C"),
+                new double[] {1, 2, 3});
+        assertEquals(3.5, evaluator.evaluate());
+
+        evaluator.set("B", 0);
+        RuntimeException e = assertThrows(RuntimeException.class, evaluator::evaluate);
+        assertEquals("Division by zero", e.getMessage());
+
+        evaluator.set("B", 4);
+        assertEquals(3.25, evaluator.evaluate());
+    }
+
+    @Test
+    void rejectsFunctionCalls() {
+        assertThrows(RuntimeException.class,
+                () -> new IncrementalEvaluator(Converter.compile("max(A, B)"), new double[] {1, 2}));
+    }
+}
@@ -0,0 +1,105 @@
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ParallelEvaluatorTest class - tests for ParallelEvaluator
+ * With a small threshold every expression is split into fork-join tasks, and the
+ * result must still be exactly that of Converter.evaluatePostfix, with the same
+ * error reasons.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+class ParallelEvaluatorTest {
+
+    // Pool with several threads, so the evaluator does not fall back to sequential
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutDownPool() {
+        POOL.shutdown();
+    }
+
+    /**
+     * Build a balanced postfix expression with 2^depth number leaves, using all four
+     * arithmetic operators and no division by zero
+     *
+     * @param depth Depth of the tree
+     * @param leaf Number of the first leaf
+     * @param postfix Receives the expression
+     */
+    private static void appendBalanced(int depth, int leaf, StringBuilder postfix) {
+        if (depth == 0) {
+            postfix.append(leaf % 7 + 1).append(' ');
+            return;
+        }
+        appendBalanced(depth - 1, leaf, postfix);
+        appendBalanced(depth - 1, leaf + (1 << (depth - 1)), postfix);
+        postfix.append("+-*/".charAt((depth + leaf) % 4)).append(' ');
+    }
+
+    /**
+     * Check that the parallel result is the sequential one
+     *
+     * @param evaluator The parallel evaluator
+     * @param postfix The postfix expression
+     * @param description Description for the failure message
+     */
+    private static void assertSameAsConverter(ParallelEvaluator evaluator, String postfix, String description) {
+        EngineCases.assertSameResult(Converter.tryEvaluatePostfix(postfix), () -> evaluator.evaluate(postfix),
+                description);
+    }
+
+    @Test
+    void matchesConverterOnSharedExpressions() {
+        ParallelEvaluator evaluator = new ParallelEvaluator(POOL, 2);
+        for (String infix : EngineCases.EXPRESSIONS) {
+            for (double[] values : EngineCases.BINDINGS) {
+                String postfix = EngineCases.postfix(EngineCases.substitute(infix, values));
+                assertSameAsConverter(evaluator, postfix, EngineCases.describe(infix, values));
+            }
+        }
+    }
+
+    @Test
+    void splitsLargeTreesWithoutChangingTheResult() {
+        StringBuilder balanced = new StringBuilder();
+        appendBalanced(15, 0, balanced);
+        for (int threshold : new int[] {2, 16, 1024}) {
+            ParallelEvaluator evaluator = new ParallelEvaluator(POOL, threshold);
+            assertSameAsConverter(evaluator, balanced.toString(), "balanced, threshold " + threshold);
+            assertSameAsConverter(evaluator, balanced + "0 /", "balanced / 0, threshold " + threshold);
+            assertSameAsConverter(evaluator, "1 0 / " + balanced + "+", "1 / 0 + balanced, threshold " + threshold);
+        }
+    }
+
+    @Test
+    void handlesLongChains() {
+        StringBuilder leftDeep = new StringBuilder("1");
+        StringBuilder rightDeep = new StringBuilder();
+        StringBuilder withSqrt = new StringBuilder("1");
+        for (int i = 0; i < 20000; i++) {
+            leftDeep.append(' ').append(i % 9 + 1).append(' ').append(i % 2 == 0 ? '+' : '-');
+            rightDeep.append("1.0001 ");
+            withSqrt.append(' ').append(i % 9 + 1).append(i % 3 == 0 ? " sqrt +" : " + sqrt");
+        }
+        rightDeep.append("2");
+        for (int i = 0; i < 20000; i++) {
+            rightDeep.append(" ^");
+        }
+        ParallelEvaluator evaluator = new ParallelEvaluator(POOL, 64);
+        assertSameAsConverter(evaluator, leftDeep.toString(), "left-deep + and -");
+        assertSameAsConverter(evaluator, rightDeep.toString(), "right-deep ^");
+        assertSameAsConverter(evaluator, withSqrt.toString(), "left-deep + and sqrt");
+    }
+
+    @Test
+    void reportsMalformedExpressionsLikeConverter() {
+        ParallelEvaluator evaluator = new ParallelEvaluator(POOL, 2);
+        for (String postfix : new String[] {"1 +", "1 2", "1 A +", "1 2 ? +", "   "}) {
+            assertSameAsConverter(evaluator, postfix, postfix);
+        }
+    }
+}
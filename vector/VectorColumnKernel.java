@@ -0,0 +1,172 @@
+import java.util.Arrays;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorColumnKernel class - ColumnKernel using the Vector API
+ * Applies +, -, * and / to SPECIES_PREFERRED lanes at a time (e.g. 4 doubles with
+ * AVX2, 8 with AVX-512). ^ stays a scalar Math.pow loop so results are identical to
+ * the other evaluators.
+ *
+ * This file lives outside the repository root because it needs the incubating
+ * jdk.incubator.vector module: compile it with --add-modules jdk.incubator.vector
+ * (the Maven build does). ColumnEvaluator loads it reflectively and falls back to
+ * its scalar kernel when the module is not present at run time.
+ *
+ * @author [Student Name]
+ * @version 1.0
+ * @since 2023
+ */
+final class VectorColumnKernel implements ColumnKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void evaluateBlock(int[] code, double[] constants, int tempBase, double[][] columns,
+                              int row, int length, double[][] slots, double[] out) {
+        int upper = SPECIES.loopBound(length);
+        int sp = 0;
+        for (int instruction : code) {
+            int operand = instruction >>> CompiledExpression.OPERAND_SHIFT;
+            switch (instruction & CompiledExpression.OPCODE_MASK) {
+                case CompiledExpression.OP_CONST:
+                    Arrays.fill(slots[sp++], 0, length, constants[operand]);
+                    break;
+                case CompiledExpression.OP_LOAD:
+                    System.arraycopy(columns[operand], row, slots[sp++], 0, length);
+                    break;
+                case CompiledExpression.OP_ADD:
+                    sp--;
+                    add(slots[sp - 1], slots[sp], length, upper);
+                    break;
+                case CompiledExpression.OP_SUB:
+                    sp--;
+                    subtract(slots[sp - 1], slots[sp], length, upper);
+                    break;
+                case CompiledExpression.OP_MUL:
+                    sp--;
+                    multiply(slots[sp - 1], slots[sp], length, upper);
+                    break;
+                case CompiledExpression.OP_DIV:
+                    sp--;
+                    divide(slots[sp - 1], slots[sp], length, upper);
+                    break;
+                case CompiledExpression.OP_POW: {
+                    sp--;
+                    double[] left = slots[sp - 1];
+                    double[] right = slots[sp];
+                    for (int i = 0; i < length; i++) {
+                        left[i] = Math.pow(left[i], right[i]);
+                    }
+                    break;
+                }
+                case CompiledExpression.OP_STORE_TEMP:
+                    System.arraycopy(slots[sp - 1], 0, slots[tempBase + operand], 0, length);
+                    break;
+                case CompiledExpression.OP_LOAD_TEMP:
+                    System.arraycopy(slots[tempBase + operand], 0, slots[sp++], 0, length);
+                    break;
+                default:
+                    throw new RuntimeException("Invalid instruction: " + instruction);
+            }
+        }
+        System.arraycopy(slots[0], 0, out, row, length);
+    }
+
+    /**
+     * Add lane-wise: left[i] = left[i] + right[i]
+     * Full vectors first, then the remaining tail rows one at a time
+     *
+     * @param left Left operands, overwritten with the results
+     * @param right Right operands
+     * @param length Number of rows
+     * @param upper Largest multiple of the vector length not above length
+     */
+    private static void add(double[] left, double[] right, int length, int upper) {
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, left, i)
+                    .lanewise(VectorOperators.ADD, DoubleVector.fromArray(SPECIES, right, i))
+                    .intoArray(left, i);
+        }
+        for (; i < length; i++) {
+            left[i] += right[i];
+        }
+    }
+
+    /**
+     * Subtract lane-wise: left[i] = left[i] - right[i]
+     * Full vectors first, then the remaining tail rows one at a time
+     *
+     * @param left Left operands, overwritten with the results
+     * @param right Right operands
+     * @param length Number of rows
+     * @param upper Largest multiple of the vector length not above length
+     */
+    private static void subtract(double[] left, double[] right, int length, int upper) {
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, left, i)
+                    .lanewise(VectorOperators.SUB, DoubleVector.fromArray(SPECIES, right, i))
+                    .intoArray(left, i);
+        }
+        for (; i < length; i++) {
+            left[i] -= right[i];
+        }
+    }
+
+    /**
+     * Multiply lane-wise: left[i] = left[i] * right[i]
+     * Full vectors first, then the remaining tail rows one at a time
+     *
+     * @param left Left operands, overwritten with the results
+     * @param right Right operands
+     * @param length Number of rows
+     * @param upper Largest multiple of the vector length not above length
+     */
+    private static void multiply(double[] left, double[] right, int length, int upper) {
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, left, i)
+                    .lanewise(VectorOperators.MUL, DoubleVector.fromArray(SPECIES, right, i))
+                    .intoArray(left, i);
+        }
+        for (; i < length; i++) {
+            left[i] *= right[i];
+        }
+    }
+
+    /**
+     * Divide lane-wise: left[i] = left[i] / right[i]
+     * Full vectors first, then the remaining tail rows one at a time; every vector
+     * of divisors is checked for zeros before it is used
+     *
+     * @param left Left operands, overwritten with the results
+     * @param right Right operands
+     * @param length Number of rows
+     * @param upper Largest multiple of the vector length not above length
+     */
+    private static void divide(double[] left, double[] right, int length, int upper) {
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector divisor = DoubleVector.fromArray(SPECIES, right, i);
+            if (divisor.compare(VectorOperators.EQ, 0).anyTrue()) {
+                throw new RuntimeException("Division by zero");
+            }
+            DoubleVector.fromArray(SPECIES, left, i).div(divisor).intoArray(left, i);
+        }
+        for (; i < length; i++) {
+            if (right[i] == 0) {
+                throw new RuntimeException("Division by zero");
+            }
+            left[i] /= right[i];
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "vector (" + SPECIES.vectorShape() + ", " + SPECIES.length() + " lanes)";
+    }
+}